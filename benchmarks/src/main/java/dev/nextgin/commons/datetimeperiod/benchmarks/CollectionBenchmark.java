@@ -0,0 +1,96 @@
+package dev.nextgin.commons.datetimeperiod.benchmarks;
+
+import dev.nextgin.commons.datetimeperiod.DateTimePeriod;
+import dev.nextgin.commons.datetimeperiod.DateTimePeriodCollection;
+import dev.nextgin.commons.datetimeperiod.Precision;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the set operations of {@link DateTimePeriodCollection} across collection sizes, overlap
+ * densities, input orders and precisions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int size;
+
+    /**
+     * Average length of a period relative to the spacing between starts, see
+     * {@link Fixtures#periods}.
+     */
+    @Param({"0.2", "1", "5"})
+    double density;
+
+    @Param({"false", "true"})
+    boolean shuffled;
+
+    @Param({"YEAR", "MONTH", "DAY", "HOUR", "MINUTE", "SECOND"})
+    Precision precision;
+
+    private DateTimePeriodCollection collection;
+    private DateTimePeriodCollection other;
+    private DateTimePeriodCollection third;
+    private DateTimePeriod window;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.collection = DateTimePeriodCollection.of(Fixtures.periods(size, density, shuffled, precision, 1));
+        this.other = DateTimePeriodCollection.of(Fixtures.periods(size, density, shuffled, precision, 2));
+        this.third = DateTimePeriodCollection.of(Fixtures.periods(size, density, shuffled, precision, 3));
+
+        // The first half of the covered time
+        DateTimePeriod boundaries = this.collection.boundaries();
+        long start = precision.toEpochUnits(boundaries.start());
+        long end = precision.toEpochUnits(boundaries.end());
+        this.window =
+                DateTimePeriod.make(boundaries.start(), precision.fromEpochUnits(start + (end - start) / 2), precision);
+    }
+
+    @Benchmark
+    public DateTimePeriodCollection union() {
+        return collection.union();
+    }
+
+    @Benchmark
+    public DateTimePeriodCollection gaps() {
+        return collection.gaps();
+    }
+
+    @Benchmark
+    public DateTimePeriodCollection subtract() {
+        return collection.subtract(other);
+    }
+
+    @Benchmark
+    public DateTimePeriodCollection overlapAll() {
+        return collection.overlapAll(other, third);
+    }
+
+    @Benchmark
+    public DateTimePeriodCollection intersect() {
+        return collection.intersect(window);
+    }
+
+    @Benchmark
+    public DateTimePeriod boundaries() {
+        return collection.boundaries();
+    }
+}
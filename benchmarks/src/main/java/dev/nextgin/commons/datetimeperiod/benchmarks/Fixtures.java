@@ -0,0 +1,77 @@
+package dev.nextgin.commons.datetimeperiod.benchmarks;
+
+import dev.nextgin.commons.datetimeperiod.DateTimePeriod;
+import dev.nextgin.commons.datetimeperiod.Precision;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible benchmark inputs.
+ */
+final class Fixtures {
+
+    /**
+     * Average number of units between the starts of two consecutive periods.
+     */
+    static final int SPACING = 10;
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private Fixtures() {}
+
+    /**
+     * Generates periods laid out one after the other, with lengths drawn around the given density.
+     * A density of 1 makes a period as long as the spacing between two starts on average, so
+     * higher densities produce more overlapping periods and lower densities more gaps.
+     *
+     * @param size      the number of periods to generate
+     * @param density   the average length of a period relative to the spacing between starts
+     * @param shuffled  whether to shuffle the periods instead of ordering them by start
+     * @param precision the precision of the periods
+     * @param seed      the seed of the random generator
+     * @return a new mutable list of periods
+     */
+    static List<DateTimePeriod> periods(int size, double density, boolean shuffled, Precision precision, long seed) {
+        Random random = new Random(seed);
+        long origin = precision.toEpochUnits(ORIGIN);
+        long maxLength = Math.max(1, Math.round(2 * density * SPACING));
+
+        List<DateTimePeriod> periods = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long start = origin + (long) i * SPACING + random.nextInt(SPACING);
+            long end = start + (long) (random.nextDouble() * maxLength);
+            periods.add(DateTimePeriod.make(precision.fromEpochUnits(start), precision.fromEpochUnits(end), precision));
+        }
+
+        if (shuffled) {
+            Collections.shuffle(periods, random);
+        }
+        return periods;
+    }
+
+    /**
+     * Generates date/time points spread over the same range as {@link #periods}, with sub-precision
+     * components so that rounding has something to truncate.
+     *
+     * @param size      the number of points to generate
+     * @param precision the precision driving the range of the points
+     * @param seed      the seed of the random generator
+     * @return a new array of points
+     */
+    static LocalDateTime[] points(int size, Precision precision, long seed) {
+        Random random = new Random(seed);
+        long origin = precision.toEpochUnits(ORIGIN);
+
+        LocalDateTime[] points = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = precision
+                    .fromEpochUnits(origin + random.nextInt(Math.max(1, size) * SPACING))
+                    .withSecond(random.nextInt(60))
+                    .withNano(random.nextInt(1_000_000_000));
+        }
+        return points;
+    }
+}
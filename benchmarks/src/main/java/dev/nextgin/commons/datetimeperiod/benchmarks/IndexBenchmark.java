@@ -0,0 +1,87 @@
+package dev.nextgin.commons.datetimeperiod.benchmarks;
+
+import dev.nextgin.commons.datetimeperiod.DateTimePeriod;
+import dev.nextgin.commons.datetimeperiod.DateTimePeriodCollection;
+import dev.nextgin.commons.datetimeperiod.DateTimePeriodIndex;
+import dev.nextgin.commons.datetimeperiod.DateTimePeriodSet;
+import dev.nextgin.commons.datetimeperiod.Precision;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures point and window lookups on {@link DateTimePeriodIndex} and {@link DateTimePeriodSet},
+ * together with the cost of building them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"0.2", "1", "5"})
+    double density;
+
+    @Param({"MINUTE"})
+    Precision precision;
+
+    private List<DateTimePeriod> periods;
+    private DateTimePeriodIndex index;
+    private DateTimePeriodSet set;
+    private LocalDateTime point;
+    private DateTimePeriod window;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.periods = Fixtures.periods(size, density, true, precision, 1);
+        this.index = DateTimePeriodIndex.of(periods);
+        this.set = DateTimePeriodSet.of(periods);
+
+        long origin = precision.toEpochUnits(LocalDateTime.of(2024, 1, 1, 0, 0));
+        long middle = origin + (long) size * Fixtures.SPACING / 2;
+        this.point = precision.fromEpochUnits(middle);
+        this.window = DateTimePeriod.make(point, precision.fromEpochUnits(middle + 100L * Fixtures.SPACING), precision);
+    }
+
+    @Benchmark
+    public DateTimePeriodIndex buildIndex() {
+        return DateTimePeriodIndex.of(periods);
+    }
+
+    @Benchmark
+    public DateTimePeriodSet buildSet() {
+        return DateTimePeriodSet.of(periods);
+    }
+
+    @Benchmark
+    public DateTimePeriodCollection stab() {
+        return index.stab(point);
+    }
+
+    @Benchmark
+    public DateTimePeriodCollection overlapping() {
+        return index.overlapping(window);
+    }
+
+    @Benchmark
+    public DateTimePeriod covering() {
+        return set.covering(point);
+    }
+}
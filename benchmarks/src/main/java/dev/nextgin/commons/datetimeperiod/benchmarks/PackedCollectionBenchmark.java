@@ -0,0 +1,76 @@
+package dev.nextgin.commons.datetimeperiod.benchmarks;
+
+import dev.nextgin.commons.datetimeperiod.PackedDateTimePeriodCollection;
+import dev.nextgin.commons.datetimeperiod.Precision;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the set operations of {@link PackedDateTimePeriodCollection}, with the same parameters
+ * as {@link CollectionBenchmark} so both representations can be compared side by side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedCollectionBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int size;
+
+    @Param({"0.2", "1", "5"})
+    double density;
+
+    @Param({"false", "true"})
+    boolean shuffled;
+
+    @Param({"YEAR", "MONTH", "DAY", "HOUR", "MINUTE", "SECOND"})
+    Precision precision;
+
+    private PackedDateTimePeriodCollection collection;
+    private PackedDateTimePeriodCollection other;
+    private PackedDateTimePeriodCollection third;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.collection =
+                PackedDateTimePeriodCollection.of(precision, Fixtures.periods(size, density, shuffled, precision, 1));
+        this.other =
+                PackedDateTimePeriodCollection.of(precision, Fixtures.periods(size, density, shuffled, precision, 2));
+        this.third =
+                PackedDateTimePeriodCollection.of(precision, Fixtures.periods(size, density, shuffled, precision, 3));
+    }
+
+    @Benchmark
+    public PackedDateTimePeriodCollection union() {
+        return collection.union();
+    }
+
+    @Benchmark
+    public PackedDateTimePeriodCollection gaps() {
+        return collection.gaps();
+    }
+
+    @Benchmark
+    public PackedDateTimePeriodCollection subtract() {
+        return collection.subtract(other);
+    }
+
+    @Benchmark
+    public PackedDateTimePeriodCollection overlapAll() {
+        return collection.overlapAll(other, third);
+    }
+}
@@ -0,0 +1,108 @@
+package dev.nextgin.commons.datetimeperiod.benchmarks;
+
+import dev.nextgin.commons.datetimeperiod.DateTimePeriod;
+import dev.nextgin.commons.datetimeperiod.Precision;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the operations of a single {@link DateTimePeriod} against a touching, an overlapping and
+ * a disjoint neighbour, for every precision.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PeriodBenchmark {
+
+    @Param({"YEAR", "MONTH", "DAY", "HOUR", "MINUTE", "SECOND"})
+    Precision precision;
+
+    private DateTimePeriod period;
+    private DateTimePeriod touching;
+    private DateTimePeriod overlapping;
+    private DateTimePeriod disjoint;
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    @Setup
+    public void setUp() {
+        List<DateTimePeriod> periods = List.of(period(0, 10), period(11, 20), period(5, 15), period(30, 40));
+        this.period = periods.get(0);
+        this.touching = periods.get(1);
+        this.overlapping = periods.get(2);
+        this.disjoint = periods.get(3);
+        this.start = period.start().plusSeconds(1);
+        this.end = period.end().plusSeconds(1);
+    }
+
+    private DateTimePeriod period(long start, long end) {
+        long origin = precision.toEpochUnits(LocalDateTime.of(2024, 1, 1, 0, 0));
+        return DateTimePeriod.make(
+                precision.fromEpochUnits(origin + start), precision.fromEpochUnits(origin + end), precision);
+    }
+
+    @Benchmark
+    public DateTimePeriod make() {
+        return DateTimePeriod.make(start, end, precision);
+    }
+
+    @Benchmark
+    public boolean overlapsWith() {
+        return period.overlapsWith(overlapping);
+    }
+
+    @Benchmark
+    public boolean touchesWith() {
+        return period.touchesWith(touching);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return period.contains(start);
+    }
+
+    @Benchmark
+    public DateTimePeriod gap() {
+        return period.gap(disjoint);
+    }
+
+    @Benchmark
+    public DateTimePeriod overlap() {
+        return period.overlap(overlapping);
+    }
+
+    @Benchmark
+    public Object subtract() {
+        return period.subtract(overlapping);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return period.compareTo(overlapping);
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return period.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalTo() {
+        return period.equals(overlapping);
+    }
+}
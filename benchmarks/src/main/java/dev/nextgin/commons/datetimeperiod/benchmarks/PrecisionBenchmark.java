@@ -0,0 +1,89 @@
+package dev.nextgin.commons.datetimeperiod.benchmarks;
+
+import dev.nextgin.commons.datetimeperiod.Precision;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures rounding and epoch unit conversions of {@link Precision} over a batch of points.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrecisionBenchmark {
+
+    @Param({"1000"})
+    int size;
+
+    @Param({"YEAR", "MONTH", "DAY", "HOUR", "MINUTE", "SECOND"})
+    Precision precision;
+
+    private LocalDateTime[] points;
+    private LocalDateTime[] aligned;
+    private long[] epochSeconds;
+    private LocalDateTime[] buffer;
+    private long[] secondsBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.points = Fixtures.points(size, precision, 1);
+        this.aligned = new LocalDateTime[size];
+        this.epochSeconds = new long[size];
+        for (int i = 0; i < size; i++) {
+            this.aligned[i] = precision.round(points[i]);
+            this.epochSeconds[i] = points[i].toEpochSecond(ZoneOffset.UTC);
+        }
+        this.buffer = new LocalDateTime[size];
+        this.secondsBuffer = new long[size];
+    }
+
+    @Benchmark
+    public void round(Blackhole blackhole) {
+        for (LocalDateTime point : points) {
+            blackhole.consume(precision.round(point));
+        }
+    }
+
+    @Benchmark
+    public void roundAligned(Blackhole blackhole) {
+        for (LocalDateTime point : aligned) {
+            blackhole.consume(precision.round(point));
+        }
+    }
+
+    @Benchmark
+    public LocalDateTime[] roundArray() {
+        System.arraycopy(points, 0, buffer, 0, size);
+        return precision.round(buffer);
+    }
+
+    @Benchmark
+    public long[] roundEpochSeconds() {
+        System.arraycopy(epochSeconds, 0, secondsBuffer, 0, size);
+        return precision.round(secondsBuffer);
+    }
+
+    @Benchmark
+    public void toEpochUnits(Blackhole blackhole) {
+        for (LocalDateTime point : points) {
+            blackhole.consume(precision.toEpochUnits(point));
+        }
+    }
+}
@@ -5,3 +5,4 @@ version=$1
 echo "Updating project version to $version"
 
 mvn versions:set -DnewVersion="$version" -DprocessAllModules -DgenerateBackupPoms=false
+mvn -f benchmarks/pom.xml versions:set -DnewVersion="$version" -DgenerateBackupPoms=false
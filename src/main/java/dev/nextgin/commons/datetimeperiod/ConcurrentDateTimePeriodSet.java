@@ -0,0 +1,291 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A thread-safe counterpart of {@link DateTimePeriodSet}: a normalized set of periods that many
+ * threads can add to, subtract from and query concurrently.
+ * <p>
+ * Periods are kept in a {@link ConcurrentSkipListMap} keyed by start, so reads never lock. Writes
+ * lock the part of the timeline they change rather than the whole set: the timeline is cut into
+ * buckets of a fixed number of {@link Precision#toEpochUnits epoch units}, each guarded by one of a
+ * fixed set of striped locks. A write locks the stripes of every bucket from the start of the first
+ * stored period it affects to one unit past its end, in ascending stripe order, so writes on
+ * distant time ranges proceed in parallel while writes that could merge or cut the same periods are
+ * serialized.
+ * <p>
+ * Writes store new periods before removing the periods they replace. Readers therefore never miss
+ * time that is covered both before and after a write, but may transiently observe overlapping
+ * periods; iteration is weakly consistent, as for {@link ConcurrentSkipListMap}.
+ * <p>
+ * All the periods of a set share the precision given at creation.
+ */
+public final class ConcurrentDateTimePeriodSet extends AbstractSet<DateTimePeriod> {
+
+    private static final int DEFAULT_BUCKET_UNITS = 1 << 10;
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final Precision precision;
+    private final ConcurrentSkipListMap<LocalDateTime, DateTimePeriod> periods;
+    private final long bucketUnits;
+    private final ReentrantLock[] stripes;
+
+    ConcurrentDateTimePeriodSet(Precision precision, long bucketUnits, int stripes) {
+        this.precision = precision;
+        this.periods = new ConcurrentSkipListMap<>();
+        this.bucketUnits = bucketUnits;
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Creates an empty set of periods of the given precision.
+     *
+     * @param precision the precision of the periods of the set
+     * @return A new, empty set
+     */
+    public static ConcurrentDateTimePeriodSet empty(Precision precision) {
+        return new ConcurrentDateTimePeriodSet(precision, DEFAULT_BUCKET_UNITS, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Adds a period to this set, merging it with the periods it overlaps or touches.
+     *
+     * @param period to be added
+     * @return true if this set changed, false if the period was already covered
+     * @throws DateTimePeriodException if precision does not match
+     */
+    @Override
+    public boolean add(DateTimePeriod period) {
+        return this.locked(period, () -> DateTimePeriodSet.merge(this.periods, period));
+    }
+
+    /**
+     * Adds a period to this set only if none of its time is covered yet. The check and the
+     * insertion are atomic: two threads reserving overlapping periods never both succeed.
+     *
+     * @param period to be reserved
+     * @return true if the period was free and is now part of this set, false if it overlaps this set
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public boolean reserve(DateTimePeriod period) {
+        return this.locked(period, () -> !this.overlaps(period) && DateTimePeriodSet.merge(this.periods, period));
+    }
+
+    /**
+     * Removes the time of the given period from this set, cutting the periods it partially covers.
+     *
+     * @param period to be subtracted from this set
+     * @return true if this set changed, false if the given period did not overlap it
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriodSet#subtract(DateTimePeriod)
+     */
+    public boolean subtract(DateTimePeriod period) {
+        return this.locked(period, () -> DateTimePeriodSet.carve(this.periods, period));
+    }
+
+    /**
+     * Checks if any period of this set overlaps the given period, without locking.
+     *
+     * @param period The period to check
+     * @return true if some time of the given period is covered by this set, false otherwise
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public boolean overlaps(DateTimePeriod period) {
+        DateTimePeriodSweep.ensurePrecisionMatches(this.precision, period);
+        Map.Entry<LocalDateTime, DateTimePeriod> floor = this.periods.floorEntry(period.end());
+        return floor != null && !floor.getValue().end().isBefore(period.start());
+    }
+
+    /**
+     * Returns the period of this set that contains the given date/time, without locking.
+     *
+     * @param localDateTime the date/time to look up
+     * @return the period {@link DateTimePeriod#contains(LocalDateTime) containing} the given
+     * date/time, or null if it is not covered by this set
+     */
+    @Nullable public DateTimePeriod covering(LocalDateTime localDateTime) {
+        Map.Entry<LocalDateTime, DateTimePeriod> floor = this.periods.floorEntry(localDateTime);
+        if (floor == null || !floor.getValue().contains(localDateTime)) {
+            return null;
+        }
+        return floor.getValue();
+    }
+
+    /**
+     * Returns a snapshot of the union of the periods of this set, without locking.
+     *
+     * @return A new collection containing the periods of this set, ordered by start
+     */
+    public DateTimePeriodCollection union() {
+        return DateTimePeriodCollection.of(DateTimePeriodSweep.union(new ArrayList<>(this.periods.values())));
+    }
+
+    /**
+     * Returns the precision of the periods of this set.
+     *
+     * @return the Precision of the periods in this set
+     */
+    public Precision precision() {
+        return this.precision;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return element instanceof DateTimePeriod period && period.equals(this.periods.get(period.start()));
+    }
+
+    /**
+     * Removes the given period if it is one of the periods of this set.
+     *
+     * @param element the period to be removed
+     * @return true if this set contained the given period
+     */
+    @Override
+    public boolean remove(Object element) {
+        if (!(element instanceof DateTimePeriod period) || period.precision() != this.precision) {
+            return false;
+        }
+        return this.locked(period, () -> this.periods.remove(period.start(), period));
+    }
+
+    /**
+     * Returns the number of periods of this set. This is not a constant-time operation, and the
+     * result may be inaccurate while other threads write.
+     *
+     * @return the number of periods in this set
+     */
+    @Override
+    public int size() {
+        return this.periods.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.periods.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        for (ReentrantLock stripe : this.stripes) {
+            stripe.lock();
+        }
+        try {
+            this.periods.clear();
+        } finally {
+            for (int i = this.stripes.length - 1; i >= 0; i--) {
+                this.stripes[i].unlock();
+            }
+        }
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<DateTimePeriod> iterator() {
+        Iterator<DateTimePeriod> iterator = this.periods.values().iterator();
+        return new Iterator<>() {
+
+            private DateTimePeriod last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public DateTimePeriod next() {
+                this.last = iterator.next();
+                return this.last;
+            }
+
+            @Override
+            public void remove() {
+                if (this.last == null) {
+                    throw new IllegalStateException();
+                }
+                ConcurrentDateTimePeriodSet.this.remove(this.last);
+                this.last = null;
+            }
+        };
+    }
+
+    /**
+     * Runs a write while holding the stripes of every bucket it may change. The buckets are
+     * guessed without locking, then checked again once locked: if a concurrent write moved the
+     * start of the first affected period to an earlier bucket, the locks are released and taken
+     * again over the larger range.
+     */
+    private boolean locked(DateTimePeriod period, BooleanSupplier write) {
+        DateTimePeriodSweep.ensurePrecisionMatches(this.precision, period);
+
+        long last = this.bucket(this.precision.toEpochUnits(period.end()) + 1);
+        long first = this.bucket(this.firstAffectedUnits(period));
+        while (true) {
+            boolean[] held = this.lock(first, last);
+            try {
+                long affected = this.bucket(this.firstAffectedUnits(period));
+                if (affected >= first) {
+                    return write.getAsBoolean();
+                }
+                first = affected;
+            } finally {
+                this.unlock(held);
+            }
+        }
+    }
+
+    /**
+     * Returns the first unit a write of the given period may change: the start of the stored
+     * period overlapping or touching its start, if any, otherwise its own start.
+     */
+    private long firstAffectedUnits(DateTimePeriod period) {
+        Map.Entry<LocalDateTime, DateTimePeriod> floor = this.periods.floorEntry(period.start());
+        if (floor != null
+                && !floor.getValue().end().plus(this.precision.interval()).isBefore(period.start())) {
+            return this.precision.toEpochUnits(floor.getKey());
+        }
+        return this.precision.toEpochUnits(period.start());
+    }
+
+    private long bucket(long units) {
+        return Math.floorDiv(units, this.bucketUnits);
+    }
+
+    private boolean[] lock(long firstBucket, long lastBucket) {
+        boolean[] held = new boolean[this.stripes.length];
+        if (lastBucket - firstBucket + 1 >= this.stripes.length) {
+            Arrays.fill(held, true);
+        } else {
+            for (long bucket = firstBucket; bucket <= lastBucket; bucket++) {
+                held[(int) Math.floorMod(bucket, (long) this.stripes.length)] = true;
+            }
+        }
+
+        for (int i = 0; i < held.length; i++) {
+            if (held[i]) {
+                this.stripes[i].lock();
+            }
+        }
+        return held;
+    }
+
+    private void unlock(boolean[] held) {
+        for (int i = held.length - 1; i >= 0; i--) {
+            if (held[i]) {
+                this.stripes[i].unlock();
+            }
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package dev.nextgin.commons.datetimeperiod;
 
 import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a period of time between two date/time points, providing operations for comparing,
@@ -15,13 +22,34 @@ import java.util.Objects;
  * <p>
  * This class is immutable and thread-safe. All operations that would modify the period return a new
  * instance rather than modifying the existing one.
+ * <p>
+ * Periods are serialized in a compact form holding their precision, start and end as
+ * {@link Precision#toEpochUnits(LocalDateTime) epoch units}. Periods serialized by earlier releases,
+ * holding their start, end and precision fields, are still read.
  */
 public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod> {
 
+    /**
+     * The identifier computed for the fields serialized by earlier releases, which are still read.
+     */
+    private static final long serialVersionUID = -9013290676352072445L;
+
     private final LocalDateTime start;
     private final LocalDateTime end;
     private final Precision precision;
-    private final transient Duration duration;
+
+    /**
+     * Computed on first use: most periods created by the operations never need it.
+     */
+    private transient Duration duration;
+
+    /**
+     * Start and end as {@link Precision#toEpochUnits(LocalDateTime) epoch units} of the precision,
+     * so that the predicates compare plain longs instead of allocating date/times.
+     */
+    private final transient long startUnits;
+
+    private final transient long endUnits;
 
     private DateTimePeriod(LocalDateTime start, LocalDateTime end, Precision precision) {
         if (start.isAfter(end)) {
@@ -31,7 +59,8 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
         this.start = start;
         this.end = end;
         this.precision = precision;
-        this.duration = Duration.between(start, end);
+        this.startUnits = precision.toEpochUnits(start);
+        this.endUnits = precision.toEpochUnits(end);
     }
 
     /**
@@ -86,16 +115,7 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
      */
     public boolean overlapsWith(DateTimePeriod period) {
         this.ensurePrecisionMatches(period);
-
-        if (this.start().isAfter(period.end())) {
-            return false;
-        }
-
-        if (period.start().isAfter(this.end())) {
-            return false;
-        }
-
-        return true;
+        return this.startUnits <= period.endUnits && period.startUnits <= this.endUnits;
     }
 
     /**
@@ -122,18 +142,7 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
      */
     public boolean touchesWith(DateTimePeriod period) {
         this.ensurePrecisionMatches(period);
-
-        if (period.start().isAfter(this.end())) {
-            return Duration.between(this.end().plus(this.precision().interval()), period.start())
-                    .isZero();
-        }
-
-        if (this.start().isAfter(period.end())) {
-            return Duration.between(period.end().plus(period.precision().interval()), this.start())
-                    .isZero();
-        }
-
-        return false;
+        return this.endUnits + 1 == period.startUnits || period.endUnits + 1 == this.startUnits;
     }
 
     /**
@@ -147,11 +156,8 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
     @Nullable public DateTimePeriod gap(DateTimePeriod period) {
         this.ensurePrecisionMatches(period);
 
-        if (this.overlapsWith(period)) {
-            return null;
-        }
-
-        if (this.touchesWith(period)) {
+        // Overlapping or touching periods leave no unit between them
+        if (this.startUnits <= period.endUnits + 1 && period.startUnits <= this.endUnits + 1) {
             return null;
         }
 
@@ -242,8 +248,6 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
      * @throws DateTimePeriodException if precision does not match
      */
     public DateTimePeriodCollection subtract(DateTimePeriod period) {
-        this.ensurePrecisionMatches(period);
-
         if (!this.overlapsWith(period)) {
             return DateTimePeriodCollection.of(this);
         }
@@ -325,8 +329,8 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
      * @return true if the specified time is within this period, false otherwise
      */
     public boolean contains(LocalDateTime localDateTime) {
-        LocalDateTime roundedDate = this.precision().round(localDateTime);
-        return !roundedDate.isBefore(this.start()) && !roundedDate.isAfter(this.end());
+        long units = this.precision.toEpochUnits(localDateTime);
+        return this.startUnits <= units && units <= this.endUnits;
     }
 
     /**
@@ -337,9 +341,45 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
      * otherwise
      */
     public boolean contains(DateTimePeriod period) {
+        if (this.precision == period.precision) {
+            return this.startUnits <= period.startUnits && period.endUnits <= this.endUnits;
+        }
         return !this.start().isAfter(period.start()) && !this.end().isBefore(period.end());
     }
 
+    /**
+     * Splits this period into the buckets of a coarser or equal precision it spans. Every slice
+     * covers one bucket, such as one hour or one day, except the first and the last ones which are
+     * clipped to this period. Slices keep the precision of this period:
+     * <pre>
+     * DateTimePeriod session = DateTimePeriod.make(
+     *         LocalDateTime.parse("2024-03-15T14:30"), LocalDateTime.parse("2024-03-15T16:10"), Precision.MINUTE);
+     * session.slice(Precision.HOUR)
+     * // returns [14:30, 14:59], [15:00, 15:59], [16:00, 16:10]
+     * </pre>
+     * Slices are created lazily, as the stream is consumed. The stream knows its size, so it splits
+     * evenly when run in parallel and {@link Stream#count()} does not create any slice.
+     *
+     * @param bucket the precision of the buckets
+     * @return An ordered stream of the slices of this period
+     * @throws DateTimePeriodException if the bucket is finer than the precision of this period
+     * @see #sliceCount(Precision)
+     */
+    public Stream<DateTimePeriod> slice(Precision bucket) {
+        return StreamSupport.stream(new Slices(this, bucket), false);
+    }
+
+    /**
+     * Counts the slices returned by {@link #slice(Precision)}, without creating them.
+     *
+     * @param bucket the precision of the buckets
+     * @return the number of buckets this period spans
+     * @throws DateTimePeriodException if the bucket is finer than the precision of this period
+     */
+    public long sliceCount(Precision bucket) {
+        return new Slices(this, bucket).estimateSize();
+    }
+
     /**
      * Returns the start date and time of this period.
      *
@@ -368,6 +408,24 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
         return precision;
     }
 
+    /**
+     * Returns the start of this period as epoch units of its precision.
+     *
+     * @return the first unit of this period
+     */
+    long startUnits() {
+        return startUnits;
+    }
+
+    /**
+     * Returns the end of this period as epoch units of its precision.
+     *
+     * @return the last unit of this period, inclusive
+     */
+    long endUnits() {
+        return endUnits;
+    }
+
     /**
      * Calculates the duration of this period.
      * The duration represents the total length of time between the start
@@ -376,6 +434,12 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
      * @return the Duration representing the length of this period.
      */
     public Duration duration() {
+        // Racy but idempotent: Duration is immutable and every thread computes an equal value
+        Duration duration = this.duration;
+        if (duration == null) {
+            duration = Duration.between(start, end);
+            this.duration = duration;
+        }
         return duration;
     }
 
@@ -387,6 +451,31 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
         throw DateTimePeriodException.precisionDoesNotMatch();
     }
 
+    private Object writeReplace() {
+        return new SerializedForm(this);
+    }
+
+    /**
+     * Reads a period serialized by an earlier release as its start, end and precision fields. The
+     * period is then rebuilt by {@link #readResolve()}.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (start == null || end == null || precision == null) {
+            throw new InvalidObjectException("Periods require a start, an end and a precision");
+        }
+    }
+
+    private Object readResolve() throws InvalidObjectException {
+        try {
+            return make(start, end, precision);
+        } catch (RuntimeException e) {
+            InvalidObjectException invalid = new InvalidObjectException(e.getMessage());
+            invalid.initCause(e);
+            throw invalid;
+        }
+    }
+
     @Override
     public String toString() {
         return String.format("[%s, %s]", this.start(), this.end());
@@ -402,23 +491,167 @@ public class DateTimePeriod implements Serializable, Comparable<DateTimePeriod>
             return false;
         }
 
+        // Start and end are rounded to the precision, so equal units mean equal date/times
         DateTimePeriod period = (DateTimePeriod) object;
-        return Objects.equals(start, period.start) && Objects.equals(end, period.end) && precision == period.precision;
+        return precision == period.precision && startUnits == period.startUnits && endUnits == period.endUnits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(start, end, precision);
+        return 31 * (31 * Long.hashCode(startUnits) + Long.hashCode(endUnits)) + precision.ordinal();
     }
 
+    /**
+     * Compares periods by start, then by end, then by precision. This order is consistent with
+     * {@link #equals(Object)}.
+     *
+     * @param period the period to be compared
+     * @return -1, 0 or 1 as this period is less than, equal to, or greater than the given period
+     */
     @Override
     public int compareTo(DateTimePeriod period) {
-        if (this.equals(period)) {
-            return 0;
-        } else if (this.start().isBefore(period.start())) {
-            return -1;
-        } else {
-            return 1;
+        int compared = this.start.compareTo(period.start);
+        if (compared == 0) {
+            compared = this.end.compareTo(period.end);
+        }
+        if (compared == 0) {
+            compared = Integer.compare(this.precision.ordinal(), period.precision.ordinal());
+        }
+        return Integer.signum(compared);
+    }
+
+    /**
+     * Lazily creates the slices of a period over a range of buckets, as
+     * {@link Precision#toEpochUnits(LocalDateTime) epoch units} of the bucket precision. Splitting
+     * halves the range, so both halves know their exact size.
+     */
+    private static final class Slices implements Spliterator<DateTimePeriod> {
+
+        private final DateTimePeriod period;
+        private final Precision bucket;
+        private final long last;
+        private long index;
+        private final long fence;
+
+        private Slices(DateTimePeriod period, Precision bucket) {
+            if (bucket.ordinal() > period.precision.ordinal()) {
+                throw DateTimePeriodException.bucketFinerThanPrecision(bucket, period.precision);
+            }
+
+            this.period = period;
+            this.bucket = bucket;
+            this.last = bucket.toEpochUnits(period.end);
+            this.index = bucket.toEpochUnits(period.start);
+            this.fence = last + 1;
+        }
+
+        private Slices(DateTimePeriod period, Precision bucket, long last, long index, long fence) {
+            this.period = period;
+            this.bucket = bucket;
+            this.last = last;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DateTimePeriod> action) {
+            if (index >= fence) {
+                return false;
+            }
+
+            LocalDateTime next = index == last ? null : bucket.fromEpochUnits(index + 1);
+            DateTimePeriod slice = this.slice(bucket.fromEpochUnits(index), next);
+            index++;
+            action.accept(slice);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super DateTimePeriod> action) {
+            if (index >= fence) {
+                return;
+            }
+
+            // The start of a bucket is the end of the previous one: convert each boundary once
+            LocalDateTime bucketStart = bucket.fromEpochUnits(index);
+            while (index < fence) {
+                LocalDateTime next = index == last ? null : bucket.fromEpochUnits(index + 1);
+                DateTimePeriod slice = this.slice(bucketStart, next);
+                index++;
+                action.accept(slice);
+                bucketStart = next;
+            }
+        }
+
+        /**
+         * Clips a bucket to the period. The start of the next bucket is null for the last bucket of
+         * the period, which ends with the period and may have no successor near
+         * {@link LocalDateTime#MAX}.
+         */
+        private DateTimePeriod slice(LocalDateTime bucketStart, @Nullable LocalDateTime nextBucketStart) {
+            Precision precision = period.precision;
+            LocalDateTime start = bucketStart.isBefore(period.start) ? period.start : bucketStart;
+            LocalDateTime end = nextBucketStart == null ? period.end : nextBucketStart.minus(precision.interval());
+            return new DateTimePeriod(start, end, precision);
+        }
+
+        @Override
+        public Spliterator<DateTimePeriod> trySplit() {
+            long middle = index + (fence - index) / 2;
+            if (middle <= index) {
+                return null;
+            }
+
+            Slices prefix = new Slices(period, bucket, last, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SORTED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super DateTimePeriod> getComparator() {
+            // Slices are sorted by their natural order
+            return null;
+        }
+    }
+
+    /**
+     * The serialized form of a period: its precision code and its start and end as epoch units.
+     * Deserialization goes through {@link #make(LocalDateTime, LocalDateTime, Precision)}, so the
+     * invariants and the cached units of the period are restored.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte precision;
+        private final long start;
+        private final long end;
+
+        private SerializedForm(DateTimePeriod period) {
+            this.precision = (byte) DateTimePeriodCodec.code(period.precision);
+            this.start = period.startUnits;
+            this.end = period.endUnits;
+        }
+
+        private Object readResolve() throws InvalidObjectException {
+            try {
+                Precision precision = DateTimePeriodCodec.precision(this.precision);
+                return make(precision.fromEpochUnits(start), precision.fromEpochUnits(end), precision);
+            } catch (RuntimeException e) {
+                InvalidObjectException invalid = new InvalidObjectException(e.getMessage());
+                invalid.initCause(e);
+                throw invalid;
+            }
         }
     }
 }
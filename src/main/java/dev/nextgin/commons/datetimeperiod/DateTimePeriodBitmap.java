@@ -0,0 +1,430 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * An immutable bitmap of the time covered by periods of a single {@link Precision}, one bit per
+ * {@link Precision#toEpochUnits(LocalDateTime) epoch unit}. A period is a run of consecutive bits,
+ * so union, intersection and subtraction are plain {@code OR}, {@code AND} and {@code AND NOT} over
+ * 64-bit words, and checking whether a date/time is covered takes constant time.
+ * <p>
+ * The bitmap is split into chunks of 4096 units. Chunks without any covered unit are not stored,
+ * and fully covered chunks share a single instance, so sparse and densely booked calendars both
+ * stay small. With {@link Precision#DAY} or {@link Precision#HOUR}, a two years calendar takes at
+ * most a few kilobytes:
+ * <pre>
+ * DateTimePeriodBitmap free = opening.andNot(booked);
+ * boolean available = free.contains(LocalDateTime.parse("2024-03-15T14:00"));
+ * DateTimePeriodCollection slots = free.toDateTimePeriodCollection();
+ * </pre>
+ * Chunks are allocated over the whole span from the earliest to the latest covered unit, so a
+ * bitmap suits bounded time ranges rather than periods scattered across centuries at
+ * {@link Precision#SECOND} precision.
+ *
+ * @see DateTimePeriodCollection#union()
+ */
+public final class DateTimePeriodBitmap {
+
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_BITS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_WORDS = CHUNK_BITS / Long.SIZE;
+
+    /**
+     * Shared by every fully covered chunk, never modified.
+     */
+    private static final long[] FULL = full();
+
+    private final Precision precision;
+
+    /**
+     * Index of the first chunk, counted in chunks since the epoch.
+     */
+    private final long firstChunk;
+
+    /**
+     * Chunks from {@link #firstChunk}: null when empty, {@link #FULL} when fully covered. The first
+     * and last chunks are never null.
+     */
+    private final long[][] chunks;
+
+    private DateTimePeriodBitmap(Precision precision, long firstChunk, long[][] chunks) {
+        this.precision = precision;
+        this.firstChunk = firstChunk;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Creates an empty bitmap for periods of the given precision.
+     *
+     * @param precision The precision of the periods of the bitmap.
+     * @return A new, empty bitmap
+     */
+    public static DateTimePeriodBitmap empty(Precision precision) {
+        return new DateTimePeriodBitmap(precision, 0, new long[0][]);
+    }
+
+    /**
+     * Creates a bitmap of the time covered by the given periods.
+     *
+     * @param precision The precision of the periods of the bitmap.
+     * @param periods   to be included in the bitmap
+     * @return A new bitmap covering the union of the given periods
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static DateTimePeriodBitmap of(Precision precision, DateTimePeriod... periods) {
+        return of(precision, Arrays.asList(periods));
+    }
+
+    /**
+     * Creates a bitmap of the time covered by the given Collection of periods.
+     *
+     * @param precision The precision of the periods of the bitmap.
+     * @param periods   A Collection of periods to be included in the bitmap
+     * @return A new bitmap covering the union of the given periods
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static DateTimePeriodBitmap of(Precision precision, Collection<DateTimePeriod> periods) {
+        if (periods.isEmpty()) {
+            return empty(precision);
+        }
+
+        long[] starts = new long[periods.size()];
+        long[] ends = new long[periods.size()];
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        int i = 0;
+        for (DateTimePeriod period : periods) {
+            DateTimePeriodSweep.ensurePrecisionMatches(precision, period);
+            starts[i] = precision.toEpochUnits(period.start());
+            ends[i] = precision.toEpochUnits(period.end());
+            first = Math.min(first, chunkOf(starts[i]));
+            last = Math.max(last, chunkOf(ends[i]));
+            i++;
+        }
+
+        long[][] chunks = new long[Math.toIntExact(last - first + 1)][];
+        for (i = 0; i < starts.length; i++) {
+            fill(chunks, first, starts[i], ends[i]);
+        }
+        return trimmed(precision, first, chunks);
+    }
+
+    /**
+     * Calculates the union of this bitmap and the given one.
+     *
+     * @param other the bitmap to combine with this one
+     * @return A new bitmap covering the time covered by either bitmap
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public DateTimePeriodBitmap or(DateTimePeriodBitmap other) {
+        this.ensurePrecisionMatches(other);
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return other;
+        }
+
+        long first = Math.min(this.firstChunk, other.firstChunk);
+        long last = Math.max(this.lastChunk(), other.lastChunk());
+        long[][] chunks = new long[Math.toIntExact(last - first + 1)][];
+        for (int i = 0; i < chunks.length; i++) {
+            long[] left = this.chunk(first + i);
+            long[] right = other.chunk(first + i);
+            if (left == null || right == FULL) {
+                chunks[i] = right;
+            } else if (right == null || left == FULL) {
+                chunks[i] = left;
+            } else {
+                long[] words = new long[CHUNK_WORDS];
+                for (int w = 0; w < CHUNK_WORDS; w++) {
+                    words[w] = left[w] | right[w];
+                }
+                chunks[i] = compact(words);
+            }
+        }
+        return new DateTimePeriodBitmap(this.precision, first, chunks);
+    }
+
+    /**
+     * Calculates the intersection of this bitmap and the given one.
+     *
+     * @param other the bitmap to intersect with this one
+     * @return A new bitmap covering the time covered by both bitmaps
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public DateTimePeriodBitmap and(DateTimePeriodBitmap other) {
+        this.ensurePrecisionMatches(other);
+        long first = Math.max(this.firstChunk, other.firstChunk);
+        long last = Math.min(this.lastChunk(), other.lastChunk());
+        if (this.isEmpty() || other.isEmpty() || first > last) {
+            return empty(this.precision);
+        }
+
+        long[][] chunks = new long[Math.toIntExact(last - first + 1)][];
+        for (int i = 0; i < chunks.length; i++) {
+            long[] left = this.chunk(first + i);
+            long[] right = other.chunk(first + i);
+            if (left == null || right == null) {
+                chunks[i] = null;
+            } else if (left == FULL) {
+                chunks[i] = right;
+            } else if (right == FULL) {
+                chunks[i] = left;
+            } else {
+                long[] words = new long[CHUNK_WORDS];
+                for (int w = 0; w < CHUNK_WORDS; w++) {
+                    words[w] = left[w] & right[w];
+                }
+                chunks[i] = compact(words);
+            }
+        }
+        return trimmed(this.precision, first, chunks);
+    }
+
+    /**
+     * Subtracts the given bitmap from this one.
+     *
+     * @param other the bitmap to subtract from this one
+     * @return A new bitmap covering the time covered by this bitmap but not by the given one
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public DateTimePeriodBitmap andNot(DateTimePeriodBitmap other) {
+        this.ensurePrecisionMatches(other);
+        if (this.isEmpty() || other.isEmpty()) {
+            return this;
+        }
+
+        long[][] chunks = new long[this.chunks.length][];
+        for (int i = 0; i < chunks.length; i++) {
+            long[] left = this.chunks[i];
+            long[] right = other.chunk(this.firstChunk + i);
+            if (left == null || right == FULL) {
+                chunks[i] = null;
+            } else if (right == null) {
+                chunks[i] = left;
+            } else {
+                long[] words = new long[CHUNK_WORDS];
+                for (int w = 0; w < CHUNK_WORDS; w++) {
+                    words[w] = left[w] & ~right[w];
+                }
+                chunks[i] = compact(words);
+            }
+        }
+        return trimmed(this.precision, this.firstChunk, chunks);
+    }
+
+    /**
+     * Checks if the given date/time is covered by this bitmap, in constant time.
+     *
+     * @param localDateTime The LocalDateTime to check
+     * @return true if the unit of the precision containing the given date/time is covered
+     */
+    public boolean contains(LocalDateTime localDateTime) {
+        long units = precision.toEpochUnits(localDateTime);
+        long[] words = this.chunk(chunkOf(units));
+        if (words == null) {
+            return false;
+        }
+
+        int bit = (int) (units & (CHUNK_BITS - 1));
+        return (words[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Returns the number of units of the precision covered by this bitmap.
+     *
+     * @return the number of covered units
+     */
+    public long cardinality() {
+        long cardinality = 0;
+        for (long[] words : this.chunks) {
+            if (words == FULL) {
+                cardinality += CHUNK_BITS;
+            } else if (words != null) {
+                for (long word : words) {
+                    cardinality += Long.bitCount(word);
+                }
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * Checks if this bitmap covers no time at all.
+     *
+     * @return true if no unit is covered
+     */
+    public boolean isEmpty() {
+        return this.chunks.length == 0;
+    }
+
+    /**
+     * Returns the precision of the periods of this bitmap.
+     *
+     * @return the Precision of this bitmap
+     */
+    public Precision precision() {
+        return precision;
+    }
+
+    /**
+     * Converts the runs of covered units back to periods.
+     *
+     * @return A new collection containing non-overlapping, non-touching periods ordered by start,
+     * the same as the {@link DateTimePeriodCollection#union() union} of the periods the bitmap was
+     * built from
+     */
+    public DateTimePeriodCollection toDateTimePeriodCollection() {
+        ArrayList<DateTimePeriod> periods = new ArrayList<>();
+        long limit = (long) this.chunks.length << CHUNK_SHIFT;
+        long offset = this.firstChunk << CHUNK_SHIFT;
+        for (long bit = this.nextBit(0, true); bit < limit; bit = this.nextBit(bit, true)) {
+            long end = this.nextBit(bit, false);
+            periods.add(DateTimePeriod.make(
+                    precision.fromEpochUnits(offset + bit), precision.fromEpochUnits(offset + end - 1), precision));
+            bit = end;
+        }
+        return DateTimePeriodCollection.of(periods);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DateTimePeriodBitmap that)) {
+            return false;
+        }
+        return precision == that.precision && firstChunk == that.firstChunk && Arrays.deepEquals(chunks, that.chunks);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(precision, firstChunk, Arrays.deepHashCode(chunks));
+    }
+
+    /**
+     * Returns the index of the first bit from the given one, relative to the first chunk, that is
+     * set or clear as requested, or the number of bits of this bitmap if there is none.
+     */
+    private long nextBit(long from, boolean set) {
+        long limit = (long) this.chunks.length << CHUNK_SHIFT;
+        while (from < limit) {
+            long[] words = this.chunks[(int) (from >>> CHUNK_SHIFT)];
+            if (words == (set ? null : FULL)) {
+                from = ((from >>> CHUNK_SHIFT) + 1) << CHUNK_SHIFT;
+                continue;
+            }
+            if (words == (set ? FULL : null)) {
+                return from;
+            }
+
+            int w = (int) (from & (CHUNK_BITS - 1)) >>> 6;
+            long word = (set ? words[w] : ~words[w]) & (-1L << from);
+            while (word == 0 && ++w < CHUNK_WORDS) {
+                word = set ? words[w] : ~words[w];
+            }
+            if (word != 0) {
+                return (from & -CHUNK_BITS) + ((long) w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            from = ((from >>> CHUNK_SHIFT) + 1) << CHUNK_SHIFT;
+        }
+        return limit;
+    }
+
+    private long lastChunk() {
+        return this.firstChunk + this.chunks.length - 1;
+    }
+
+    private long[] chunk(long chunk) {
+        long index = chunk - this.firstChunk;
+        return index < 0 || index >= this.chunks.length ? null : this.chunks[(int) index];
+    }
+
+    private void ensurePrecisionMatches(DateTimePeriodBitmap other) {
+        if (other.precision != this.precision) {
+            throw DateTimePeriodException.precisionDoesNotMatch();
+        }
+    }
+
+    private static long chunkOf(long units) {
+        return units >> CHUNK_SHIFT;
+    }
+
+    /**
+     * Sets the bits from start to end inclusive, given in epoch units.
+     */
+    private static void fill(long[][] chunks, long firstChunk, long start, long end) {
+        for (long chunk = chunkOf(start); chunk <= chunkOf(end); chunk++) {
+            int index = (int) (chunk - firstChunk);
+            long chunkStart = chunk << CHUNK_SHIFT;
+            int from = (int) (Math.max(start, chunkStart) - chunkStart);
+            int to = (int) (Math.min(end, chunkStart + CHUNK_BITS - 1) - chunkStart);
+            if (chunks[index] == FULL) {
+                continue;
+            }
+            if (from == 0 && to == CHUNK_BITS - 1) {
+                chunks[index] = FULL;
+                continue;
+            }
+
+            long[] words = chunks[index] == null ? (chunks[index] = new long[CHUNK_WORDS]) : chunks[index];
+            for (int w = from >>> 6; w <= to >>> 6; w++) {
+                long mask = -1L;
+                if (w == from >>> 6) {
+                    mask &= -1L << from;
+                }
+                if (w == to >>> 6) {
+                    mask &= -1L >>> (63 - (to & 63));
+                }
+                words[w] |= mask;
+            }
+        }
+    }
+
+    /**
+     * Replaces empty chunks with null and fully covered chunks with {@link #FULL}, then drops the
+     * leading and trailing empty chunks.
+     */
+    private static DateTimePeriodBitmap trimmed(Precision precision, long firstChunk, long[][] chunks) {
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null && chunks[i] != FULL) {
+                chunks[i] = compact(chunks[i]);
+            }
+        }
+
+        int from = 0;
+        int to = chunks.length;
+        while (from < to && chunks[from] == null) {
+            from++;
+        }
+        while (to > from && chunks[to - 1] == null) {
+            to--;
+        }
+        if (from == to) {
+            return empty(precision);
+        }
+        return new DateTimePeriodBitmap(precision, firstChunk + from, Arrays.copyOfRange(chunks, from, to));
+    }
+
+    private static long[] compact(long[] words) {
+        long and = -1L;
+        long or = 0;
+        for (long word : words) {
+            and &= word;
+            or |= word;
+        }
+        return or == 0 ? null : and == -1L ? FULL : words;
+    }
+
+    private static long[] full() {
+        long[] words = new long[CHUNK_WORDS];
+        Arrays.fill(words, -1L);
+        return words;
+    }
+}
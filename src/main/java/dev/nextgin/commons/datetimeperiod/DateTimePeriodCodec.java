@@ -0,0 +1,288 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A compact, versioned binary format for collections of periods.
+ * <p>
+ * Periods are written as {@link Precision#toEpochUnits epoch units} of their precision, in the
+ * order of the collection:
+ * <pre>
+ * version     1 byte, currently 1
+ * count       unsigned varint
+ * precision   1 byte, omitted when count is 0
+ * count times:
+ *   start     zigzag varint, difference with the start of the previous period (0 for the first)
+ *   length    unsigned varint, end minus start
+ * </pre>
+ * Varints hold 7 bits per byte, least significant group first. On a collection sorted by start,
+ * starts differences are small and positive, so most periods take two or three bytes.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class DateTimePeriodCodec {
+
+    /**
+     * The version of the format written by this codec.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Precisions by code. Codes are part of the format, so new precisions are only ever appended.
+     */
+    private static final Precision[] PRECISIONS = {
+        Precision.YEAR, Precision.MONTH, Precision.DAY, Precision.HOUR, Precision.MINUTE, Precision.SECOND
+    };
+
+    private DateTimePeriodCodec() {}
+
+    /**
+     * Encodes the given periods.
+     *
+     * @param periods to be encoded, all sharing the same precision
+     * @return the encoded periods
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static byte[] encode(Collection<DateTimePeriod> periods) {
+        Writer writer = new Writer(periods.size() * 3 + 8);
+        writer.writeByte(VERSION);
+        writer.writeVarLong(periods.size());
+        if (periods.isEmpty()) {
+            return writer.toByteArray();
+        }
+
+        Precision precision = periods.iterator().next().precision();
+        writer.writeByte(code(precision));
+        long previous = 0;
+        for (DateTimePeriod period : periods) {
+            DateTimePeriodSweep.ensurePrecisionMatches(precision, period);
+            long start = precision.toEpochUnits(period.start());
+            writer.writeVarLong(zigzag(start - previous));
+            writer.writeVarLong(precision.toEpochUnits(period.end()) - start);
+            previous = start;
+        }
+        return writer.toByteArray();
+    }
+
+    /**
+     * Encodes the given periods to an output stream.
+     *
+     * @param periods to be encoded, all sharing the same precision
+     * @param out     the stream to write to, left open
+     * @throws IOException             if writing to the stream fails
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static void encode(Collection<DateTimePeriod> periods, OutputStream out) throws IOException {
+        out.write(encode(periods));
+    }
+
+    /**
+     * Decodes periods encoded by {@link #encode(Collection)}.
+     *
+     * @param bytes the encoded periods
+     * @return A new collection containing the decoded periods, in their encoding order
+     * @throws DateTimePeriodException if the bytes are not valid encoded periods
+     */
+    public static DateTimePeriodCollection decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Decodes periods from a buffer, starting at its position. The position of the buffer is
+     * advanced past the decoded periods.
+     *
+     * @param buffer the buffer holding the encoded periods
+     * @return A new collection containing the decoded periods, in their encoding order
+     * @throws DateTimePeriodException if the buffer does not hold valid encoded periods
+     */
+    public static DateTimePeriodCollection decode(ByteBuffer buffer) {
+        try {
+            return decode(new BufferReader(buffer));
+        } catch (IOException e) {
+            // Buffers are read without I/O, so this is unreachable
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decodes periods from an input stream. Exactly the bytes of the encoded periods are consumed,
+     * one at a time, so callers should provide a buffered stream.
+     *
+     * @param in the stream to read from, left open
+     * @return A new collection containing the decoded periods, in their encoding order
+     * @throws IOException             if reading from the stream fails, or it ends before the
+     *                                 periods
+     * @throws DateTimePeriodException if the stream does not hold valid encoded periods
+     */
+    public static DateTimePeriodCollection decode(InputStream in) throws IOException {
+        return decode(new StreamReader(in));
+    }
+
+    private static DateTimePeriodCollection decode(Reader reader) throws IOException {
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw DateTimePeriodException.invalidEncoding("unsupported version " + version);
+        }
+
+        long count = reader.readVarLong();
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw DateTimePeriodException.invalidEncoding("invalid count " + count);
+        }
+
+        DateTimePeriodCollection periods = DateTimePeriodCollection.empty();
+        if (count == 0) {
+            return periods;
+        }
+
+        Precision precision = precision(reader.readByte());
+        long start = 0;
+        for (long i = 0; i < count; i++) {
+            start += unzigzag(reader.readVarLong());
+            long length = reader.readVarLong();
+            if (length < 0) {
+                throw DateTimePeriodException.invalidEncoding("negative length " + length);
+            }
+
+            try {
+                periods.add(DateTimePeriod.make(
+                        precision.fromEpochUnits(start),
+                        precision.fromEpochUnits(Math.addExact(start, length)),
+                        precision));
+            } catch (DateTimeException | ArithmeticException e) {
+                throw DateTimePeriodException.invalidEncoding("period out of range");
+            }
+        }
+        return periods;
+    }
+
+    /**
+     * Returns the code identifying the given precision in binary formats.
+     *
+     * @param precision the precision to identify
+     * @return the code of the precision
+     */
+    static int code(Precision precision) {
+        for (int code = 0; code < PRECISIONS.length; code++) {
+            if (PRECISIONS[code] == precision) {
+                return code;
+            }
+        }
+        throw new IllegalStateException("No code for precision " + precision);
+    }
+
+    /**
+     * Returns the precision identified by the given code in binary formats.
+     *
+     * @param code the code of the precision
+     * @return the identified precision
+     * @throws DateTimePeriodException if no precision has this code
+     */
+    static Precision precision(int code) {
+        if (code < 0 || code >= PRECISIONS.length) {
+            throw DateTimePeriodException.invalidEncoding("unknown precision " + code);
+        }
+        return PRECISIONS[code];
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Writer {
+
+        private byte[] bytes;
+        private int size;
+
+        Writer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            if (this.size == this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, this.bytes.length * 2);
+            }
+            this.bytes[this.size++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                this.writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            this.writeByte((int) value);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(this.bytes, this.size);
+        }
+    }
+
+    private abstract static class Reader {
+
+        /**
+         * Reads the next byte.
+         *
+         * @return the byte, between 0 and 255
+         */
+        abstract int readByte() throws IOException;
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = this.readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw DateTimePeriodException.invalidEncoding("varint longer than 10 bytes");
+        }
+    }
+
+    private static final class BufferReader extends Reader {
+
+        private final ByteBuffer buffer;
+
+        BufferReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        int readByte() {
+            if (!this.buffer.hasRemaining()) {
+                throw DateTimePeriodException.invalidEncoding("unexpected end of buffer");
+            }
+            return this.buffer.get() & 0xFF;
+        }
+    }
+
+    private static final class StreamReader extends Reader {
+
+        private final InputStream in;
+
+        StreamReader(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        int readByte() throws IOException {
+            int b = this.in.read();
+            if (b < 0) {
+                throw new EOFException("Unexpected end of encoded periods");
+            }
+            return b;
+        }
+    }
+}
@@ -2,26 +2,74 @@ package dev.nextgin.commons.datetimeperiod;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * A specialized collection for managing and manipulating sets of DateTimePeriod objects. This
  * collection provides additional operations specific to time period management while maintaining
  * the standard Collection interface contract.
+ * <p>
+ * The collection keeps track of whether its periods are known to be ordered by start, and whether
+ * they are known to be normalized: ordered by start, without overlapping or touching periods, as
+ * returned by {@link #union()}. Both are maintained as periods are added, so operations skip sorting
+ * or merging input that is already in order.
+ * <p>
+ * Collections are serialized in the compact binary form of {@link DateTimePeriodCodec}.
  *
  * @see java.util.Collection
  * @see DateTimePeriod
  */
-public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
+public class DateTimePeriodCollection implements Collection<DateTimePeriod>, Serializable {
 
-    private final ArrayList<DateTimePeriod> data;
+    private static final long serialVersionUID = 1L;
+
+    private final transient ArrayList<DateTimePeriod> data;
+
+    /**
+     * True when the periods are known to be in their natural order, hence ordered by start.
+     */
+    private transient boolean sorted;
+
+    /**
+     * True when the periods are known to be ordered by start, with no overlapping or touching
+     * periods.
+     */
+    private transient boolean normalized;
 
     private DateTimePeriodCollection(ArrayList<DateTimePeriod> periods) {
+        // One scan sets both flags: normalized periods are sorted, with a gap after each period
+        boolean sorted = true;
+        boolean normalized = true;
+        for (int i = 1; i < periods.size() && sorted; i++) {
+            DateTimePeriod previous = periods.get(i - 1);
+            DateTimePeriod period = periods.get(i);
+            sorted = previous.compareTo(period) <= 0;
+            normalized &= previous.precision() == period.precision() && previous.endUnits() + 1 < period.startUnits();
+        }
+        this.data = periods;
+        this.sorted = sorted;
+        this.normalized = sorted && normalized;
+    }
+
+    private DateTimePeriodCollection(ArrayList<DateTimePeriod> periods, boolean normalized) {
         this.data = periods;
+        this.normalized = normalized;
+        this.sorted = normalized || isSorted(periods);
     }
 
     /**
@@ -70,30 +118,22 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
      *
      * @param collections to be considered for overlap
      * @return A new collection containing periods that represent the common overlap across all
-     * input collections. If there is no common overlap, an empty collection is returned.
+     * input collections, merged and ordered by start. If there is no common overlap, an empty
+     * collection is returned.
      * @throws DateTimePeriodException if precision does not match
      */
     public DateTimePeriodCollection overlapAll(DateTimePeriodCollection... collections) {
-        DateTimePeriodCollection overlap = this;
-        for (DateTimePeriodCollection collection : collections) {
-            overlap = overlap.overlap(collection);
+        if (collections.length == 0) {
+            return this;
         }
-        return overlap;
-    }
 
-    private DateTimePeriodCollection overlap(DateTimePeriodCollection collection) {
-        DateTimePeriodCollection overlaps = DateTimePeriodCollection.empty();
-        for (DateTimePeriod period : this) {
-            for (DateTimePeriod otherPeriod : collection) {
-                DateTimePeriod overlap = period.overlap(otherPeriod);
-                if (overlap == null) {
-                    continue;
-                }
-
-                overlaps.add(overlap);
-            }
+        List<List<DateTimePeriod>> normalized = new ArrayList<>(collections.length + 1);
+        normalized.add(this.normalizedData());
+        for (DateTimePeriodCollection collection : collections) {
+            normalized.add(collection.normalizedData());
         }
-        return overlaps;
+
+        return new DateTimePeriodCollection(DateTimePeriodSweep.intersect(normalized), true);
     }
 
     /**
@@ -103,6 +143,12 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
      * periods in the collection. If the collection is empty, returns null.
      */
     @Nullable public DateTimePeriod boundaries() {
+        if (this.normalized && !this.data.isEmpty()) {
+            DateTimePeriod first = this.data.get(0);
+            DateTimePeriod last = this.data.get(this.data.size() - 1);
+            return first == last ? first : DateTimePeriod.make(first.start(), last.end(), first.precision());
+        }
+
         LocalDateTime start = null;
         LocalDateTime end = null;
         for (DateTimePeriod period : this.data) {
@@ -134,12 +180,7 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
             return this;
         }
 
-        DateTimePeriodCollection subtractedPeriods = DateTimePeriodCollection.empty();
-        for (DateTimePeriod period : this) {
-            subtractedPeriods.addAll(period.subtractAll(periods).data);
-        }
-
-        return subtractedPeriods;
+        return this.subtractNormalized(DateTimePeriodSweep.union(DateTimePeriodSweep.sorted(Arrays.asList(periods))));
     }
 
     /**
@@ -154,7 +195,12 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
             return this;
         }
 
-        return this.subtract(collection.toArray(new DateTimePeriod[0]));
+        return this.subtractNormalized(collection.normalizedData());
+    }
+
+    private DateTimePeriodCollection subtractNormalized(List<DateTimePeriod> holes) {
+        // Cutting holes in normalized periods leaves them normalized
+        return new DateTimePeriodCollection(DateTimePeriodSweep.subtract(this.data, holes), this.normalized);
     }
 
     /**
@@ -166,12 +212,48 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
      * @throws DateTimePeriodException if precision does not match
      */
     public DateTimePeriodCollection gaps() {
-        DateTimePeriod boundaries = this.boundaries();
-        if (boundaries == null) {
-            return DateTimePeriodCollection.empty();
-        }
+        return this.gaps(Duration.ZERO);
+    }
 
-        return boundaries.subtractAll(this.toArray(new DateTimePeriod[0]));
+    /**
+     * Calculates the gaps between the periods in this collection, skipping the gaps shorter than the
+     * given duration.
+     *
+     * @param minimum The minimum {@link DateTimePeriod#duration() duration} of a gap to be included
+     * @return A new collection containing periods that represent the time gaps of at least the given
+     * duration between the periods in this collection, ordered by start.
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public DateTimePeriodCollection gaps(Duration minimum) {
+        return new DateTimePeriodCollection(DateTimePeriodSweep.gaps(this.sortedData(), minimum), true);
+    }
+
+    /**
+     * Calculates the gaps between the periods in this collection, splitting the work across the
+     * fork/join pool.
+     *
+     * @return A new collection containing the same periods as {@link #gaps()}
+     * @throws DateTimePeriodException if precision does not match
+     * @see #parallelUnion()
+     */
+    public DateTimePeriodCollection parallelGaps() {
+        return this.parallelGaps(Duration.ZERO);
+    }
+
+    /**
+     * Calculates the gaps of at least the given duration between the periods in this collection,
+     * splitting the work across the fork/join pool. The gaps are read from the
+     * {@link #parallelUnion() parallel union} of this collection.
+     *
+     * @param minimum The minimum {@link DateTimePeriod#duration() duration} of a gap to be included
+     * @return A new collection containing the same periods as {@link #gaps(Duration)}
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public DateTimePeriodCollection parallelGaps(Duration minimum) {
+        List<DateTimePeriod> union = this.normalized
+                ? this.data
+                : DateTimePeriodSweep.parallelUnion(this.data, DateTimePeriodSweep.PARALLEL_THRESHOLD);
+        return new DateTimePeriodCollection(DateTimePeriodSweep.gaps(union, minimum), true);
     }
 
     /**
@@ -202,15 +284,64 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
      *
      * @return A new collection containing non-overlapping periods that represent the union of all
      * periods in this collection. Overlapping or adjacent periods are merged into single periods.
+     * The resulting periods are ordered by start.
      * @throws DateTimePeriodException if precision does not match
      */
     public DateTimePeriodCollection union() {
-        DateTimePeriod boundaries = this.boundaries();
-        if (boundaries == null) {
-            return DateTimePeriodCollection.empty();
+        ArrayList<DateTimePeriod> union =
+                this.normalized ? new ArrayList<>(this.data) : DateTimePeriodSweep.union(this.sortedData());
+        return new DateTimePeriodCollection(union, true);
+    }
+
+    /**
+     * Calculates the union of all periods in this collection, splitting the work across the
+     * fork/join pool. The periods are sorted in parallel, cut into chunks of consecutive periods
+     * merged independently, and the merged chunks are stitched back together where they overlap or
+     * touch.
+     * <p>
+     * The tasks run in the {@link java.util.concurrent.ForkJoinPool ForkJoinPool} of the calling
+     * task, or in the common pool otherwise. Small collections are merged sequentially, as with
+     * {@link #union()}.
+     *
+     * @return A new collection containing the same periods as {@link #union()}
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public DateTimePeriodCollection parallelUnion() {
+        if (this.normalized) {
+            return new DateTimePeriodCollection(new ArrayList<>(this.data), true);
         }
+        return new DateTimePeriodCollection(
+                DateTimePeriodSweep.parallelUnion(this.data, DateTimePeriodSweep.PARALLEL_THRESHOLD), true);
+    }
 
-        return boundaries.subtractAll(boundaries.subtractAll(this));
+    /**
+     * Calculates how many periods of this collection are active at any time.
+     *
+     * @return the depth profile of this collection
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriodDepth
+     */
+    public DateTimePeriodDepth depth() {
+        return DateTimePeriodDepth.of(this.data);
+    }
+
+    /**
+     * Checks whether the periods of this collection are known to be in their natural order, hence
+     * ordered by start.
+     *
+     * @return true if the periods are in their natural order
+     */
+    boolean isSorted() {
+        return this.sorted;
+    }
+
+    /**
+     * Checks whether the periods of this collection are known to be normalized.
+     *
+     * @return true if the periods are ordered by start, with no overlapping or touching periods
+     */
+    boolean isNormalized() {
+        return this.normalized;
     }
 
     /**
@@ -260,6 +391,21 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
         return data.iterator();
     }
 
+    /**
+     * Creates a late-binding {@link Spliterator} over the periods of this collection, splitting
+     * evenly in halves so that parallel streams balance their work. It reports
+     * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}, and
+     * additionally {@link Spliterator#SORTED} in the {@link DateTimePeriod#compareTo natural order}
+     * of periods when they are known to be sorted at the time the spliterator is first used.
+     *
+     * @return a Spliterator over the periods of this collection
+     */
+    @Override
+    @Nonnull
+    public Spliterator<DateTimePeriod> spliterator() {
+        return new PeriodSpliterator();
+    }
+
     @Override
     @Nonnull
     public Object[] toArray() {
@@ -272,8 +418,24 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
         return this.data.toArray(array);
     }
 
+    /**
+     * Appends a period to this collection. The collection remains known to be sorted only if the
+     * period follows the last one in their natural order, and normalized only if it starts after
+     * the last one and a gap.
+     *
+     * @param period to be added
+     * @return always true
+     */
     @Override
     public boolean add(DateTimePeriod period) {
+        if (!this.data.isEmpty()) {
+            DateTimePeriod last = this.data.get(this.data.size() - 1);
+            this.sorted &= last.compareTo(period) <= 0;
+            this.normalized &= this.sorted
+                    && last.precision() == period.precision()
+                    && !last.overlapsWith(period)
+                    && !last.touchesWith(period);
+        }
         return this.data.add(period);
     }
 
@@ -289,7 +451,11 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
 
     @Override
     public boolean addAll(@Nonnull Collection<? extends DateTimePeriod> collection) {
-        return this.data.addAll(collection);
+        this.data.ensureCapacity(this.data.size() + collection.size());
+        for (DateTimePeriod period : collection) {
+            this.add(period);
+        }
+        return !collection.isEmpty();
     }
 
     @Override
@@ -305,5 +471,154 @@ public class DateTimePeriodCollection implements Collection<DateTimePeriod> {
     @Override
     public void clear() {
         this.data.clear();
+        this.sorted = true;
+        this.normalized = true;
+    }
+
+    private Object writeReplace() {
+        return new SerializedForm(this.data);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Collections are deserialized from their serialized form");
+    }
+
+    private static boolean isSorted(List<DateTimePeriod> periods) {
+        for (int i = 1; i < periods.size(); i++) {
+            if (periods.get(i - 1).compareTo(periods.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the periods of this collection ordered by start, sorting a copy only when they are not
+     * known to be sorted.
+     */
+    private List<DateTimePeriod> sortedData() {
+        if (this.sorted) {
+            return this.data;
+        }
+
+        ArrayList<DateTimePeriod> sorted = new ArrayList<>(this.data);
+        sorted.sort(DateTimePeriodSweep.BY_START);
+        return sorted;
+    }
+
+    /**
+     * Returns the union of the periods of this collection, merging them only when they are not known
+     * to be normalized.
+     */
+    private List<DateTimePeriod> normalizedData() {
+        return this.normalized ? this.data : DateTimePeriodSweep.union(this.sortedData());
+    }
+
+    /**
+     * Decorates the spliterator of the backing list, binding to it on first traversal, split or
+     * query. The collection is known to be sorted or not at that time: later structural changes
+     * make the backing spliterator fail fast.
+     */
+    private final class PeriodSpliterator implements Spliterator<DateTimePeriod> {
+
+        @Nullable private Spliterator<DateTimePeriod> delegate;
+
+        private boolean sorted;
+
+        private PeriodSpliterator() {}
+
+        private PeriodSpliterator(Spliterator<DateTimePeriod> delegate, boolean sorted) {
+            this.delegate = delegate;
+            this.sorted = sorted;
+        }
+
+        private Spliterator<DateTimePeriod> bind() {
+            if (this.delegate == null) {
+                this.delegate = DateTimePeriodCollection.this.data.spliterator();
+                // Binds the backing spliterator to the current size and modification count
+                this.delegate.estimateSize();
+                this.sorted = DateTimePeriodCollection.this.sorted;
+            }
+            return this.delegate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DateTimePeriod> action) {
+            return this.bind().tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super DateTimePeriod> action) {
+            this.bind().forEachRemaining(action);
+        }
+
+        @Override
+        public Spliterator<DateTimePeriod> trySplit() {
+            Spliterator<DateTimePeriod> prefix = this.bind().trySplit();
+            return prefix == null ? null : new PeriodSpliterator(prefix, this.sorted);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.bind().estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            int characteristics = this.bind().characteristics();
+            return this.sorted ? characteristics | Spliterator.SORTED : characteristics;
+        }
+
+        @Override
+        public Comparator<? super DateTimePeriod> getComparator() {
+            this.bind();
+            if (!this.sorted) {
+                throw new IllegalStateException();
+            }
+
+            // Sorted periods follow their natural order
+            return null;
+        }
+    }
+
+    /**
+     * The serialized form of a collection: its periods encoded by {@link DateTimePeriodCodec}, one
+     * block per run of consecutive periods sharing a precision, so that the order of the periods is
+     * kept even when their precisions differ.
+     */
+    private static final class SerializedForm implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] encoded;
+
+        private SerializedForm(List<DateTimePeriod> periods) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int from = 0;
+            for (int i = 1; i <= periods.size(); i++) {
+                if (i == periods.size()
+                        || periods.get(i).precision() != periods.get(from).precision()) {
+                    out.writeBytes(DateTimePeriodCodec.encode(periods.subList(from, i)));
+                    from = i;
+                }
+            }
+            this.encoded = out.toByteArray();
+        }
+
+        private Object readResolve() throws InvalidObjectException {
+            try {
+                // Adding the periods one by one restores the sorted and normalized flags
+                DateTimePeriodCollection collection = DateTimePeriodCollection.empty();
+                ByteBuffer buffer = ByteBuffer.wrap(this.encoded);
+                while (buffer.hasRemaining()) {
+                    collection.addAll(DateTimePeriodCodec.decode(buffer));
+                }
+                return collection;
+            } catch (RuntimeException e) {
+                InvalidObjectException invalid = new InvalidObjectException(e.getMessage());
+                invalid.initCause(e);
+                throw invalid;
+            }
+        }
     }
 }
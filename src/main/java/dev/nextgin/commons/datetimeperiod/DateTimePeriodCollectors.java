@@ -0,0 +1,216 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector} implementations reducing a stream of periods into a coalesced result, without
+ * collecting every period into a {@link DateTimePeriodCollection} first.
+ * <p>
+ * The collectors are unordered and their partial results combine cheaply, so they scale with
+ * {@code parallelStream()}:
+ * <pre>
+ * DateTimePeriodCollection union = periods.parallelStream().collect(DateTimePeriodCollectors.toUnion());
+ * </pre>
+ * Every collector throws a {@link DateTimePeriodException} if the precisions of the streamed
+ * periods do not match.
+ */
+public final class DateTimePeriodCollectors {
+
+    private DateTimePeriodCollectors() {}
+
+    /**
+     * Returns a collector calculating the union of the streamed periods.
+     *
+     * @return A collector producing the same periods as {@link DateTimePeriodCollection#union()}
+     */
+    public static Collector<DateTimePeriod, ?, DateTimePeriodCollection> toUnion() {
+        return Collector.of(
+                UnionAccumulator::new,
+                UnionAccumulator::add,
+                UnionAccumulator::combine,
+                accumulator -> DateTimePeriodCollection.of(accumulator.union()),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector calculating the gaps between the streamed periods.
+     *
+     * @return A collector producing the same periods as {@link DateTimePeriodCollection#gaps()}
+     */
+    public static Collector<DateTimePeriod, ?, DateTimePeriodCollection> toGaps() {
+        return toGaps(Duration.ZERO);
+    }
+
+    /**
+     * Returns a collector calculating the gaps of at least the given duration between the streamed
+     * periods.
+     *
+     * @param minimum The minimum {@link DateTimePeriod#duration() duration} of a gap to be included
+     * @return A collector producing the same periods as
+     * {@link DateTimePeriodCollection#gaps(Duration)}
+     */
+    public static Collector<DateTimePeriod, ?, DateTimePeriodCollection> toGaps(Duration minimum) {
+        return Collector.of(
+                UnionAccumulator::new,
+                UnionAccumulator::add,
+                UnionAccumulator::combine,
+                accumulator -> DateTimePeriodCollection.of(DateTimePeriodSweep.gaps(accumulator.union(), minimum)),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector calculating the boundary period encompassing all streamed periods.
+     *
+     * @return A collector producing the same period as {@link DateTimePeriodCollection#boundaries()},
+     * or null if the stream is empty
+     */
+    public static Collector<DateTimePeriod, ?, DateTimePeriod> toBoundaries() {
+        return Collector.of(
+                BoundsAccumulator::new,
+                BoundsAccumulator::boundaries,
+                BoundsAccumulator::boundaries,
+                BoundsAccumulator::toPeriod,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector calculating the time shared by all streamed periods.
+     *
+     * @return A collector producing the same period as {@link DateTimePeriod#overlapAll}, or null if
+     * the stream is empty or the periods have no common overlap
+     */
+    public static Collector<DateTimePeriod, ?, DateTimePeriod> toIntersection() {
+        return Collector.of(
+                BoundsAccumulator::new,
+                BoundsAccumulator::intersection,
+                BoundsAccumulator::intersection,
+                BoundsAccumulator::toPeriod,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Buffers periods and merges them whenever the buffer has doubled since the last merge, so the
+     * buffer never holds much more than twice the union, and the total sorting work stays
+     * O(n log n).
+     */
+    private static final class UnionAccumulator {
+
+        private static final int MIN_COMPACTION_SIZE = 64;
+
+        private ArrayList<DateTimePeriod> periods = new ArrayList<>();
+        private int compactedSize;
+
+        void add(DateTimePeriod period) {
+            this.periods.add(period);
+            this.compactIfGrown();
+        }
+
+        UnionAccumulator combine(UnionAccumulator other) {
+            this.periods.addAll(other.periods);
+            this.compactIfGrown();
+            return this;
+        }
+
+        ArrayList<DateTimePeriod> union() {
+            return DateTimePeriodSweep.union(DateTimePeriodSweep.sorted(this.periods));
+        }
+
+        private void compactIfGrown() {
+            if (this.periods.size() < Math.max(MIN_COMPACTION_SIZE, 2 * this.compactedSize)) {
+                return;
+            }
+
+            this.periods = this.union();
+            this.compactedSize = this.periods.size();
+        }
+    }
+
+    /**
+     * Tracks a single start and end, widened for boundaries and narrowed for intersections. An
+     * intersection is empty as soon as its start passes its end.
+     */
+    private static final class BoundsAccumulator {
+
+        private Precision precision;
+        private LocalDateTime start;
+        private LocalDateTime end;
+
+        void boundaries(DateTimePeriod period) {
+            this.widen(period.precision(), period.start(), period.end());
+        }
+
+        BoundsAccumulator boundaries(BoundsAccumulator other) {
+            if (other.precision != null) {
+                this.widen(other.precision, other.start, other.end);
+            }
+            return this;
+        }
+
+        void intersection(DateTimePeriod period) {
+            this.narrow(period.precision(), period.start(), period.end());
+        }
+
+        BoundsAccumulator intersection(BoundsAccumulator other) {
+            if (other.precision != null) {
+                this.narrow(other.precision, other.start, other.end);
+            }
+            return this;
+        }
+
+        @Nullable DateTimePeriod toPeriod() {
+            if (this.precision == null || this.start.isAfter(this.end)) {
+                return null;
+            }
+            return DateTimePeriod.make(this.start, this.end, this.precision);
+        }
+
+        private void widen(Precision precision, LocalDateTime start, LocalDateTime end) {
+            if (this.accept(precision, start, end)) {
+                return;
+            }
+
+            if (start.isBefore(this.start)) {
+                this.start = start;
+            }
+            if (end.isAfter(this.end)) {
+                this.end = end;
+            }
+        }
+
+        private void narrow(Precision precision, LocalDateTime start, LocalDateTime end) {
+            if (this.accept(precision, start, end)) {
+                return;
+            }
+
+            if (start.isAfter(this.start)) {
+                this.start = start;
+            }
+            if (end.isBefore(this.end)) {
+                this.end = end;
+            }
+        }
+
+        /**
+         * Takes the given bounds as-is if nothing was accumulated yet.
+         *
+         * @return true if the bounds were taken, false if they still have to be folded in
+         */
+        private boolean accept(Precision precision, LocalDateTime start, LocalDateTime end) {
+            if (this.precision == null) {
+                this.precision = precision;
+                this.start = start;
+                this.end = end;
+                return true;
+            }
+
+            if (this.precision != precision) {
+                throw DateTimePeriodException.precisionDoesNotMatch();
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The depth profile of a collection of periods: how many of its periods are active at any time.
+ * <p>
+ * The profile is a step function, computed once by sorting the starts and the ends of the periods
+ * and sweeping them in O(n log n). It is kept as the ordered list of {@link Step steps} where at
+ * least one period is active, so that the maximum depth, the peaks and the time above a threshold
+ * are read without comparing periods with each other:
+ * <pre>
+ * DateTimePeriodDepth depth = DateTimePeriodDepth.of(sessions);
+ * if (depth.maxDepth() &gt; capacity) {
+ *     alert(depth.atLeast(capacity + 1));
+ * }
+ * </pre>
+ * Depths are computed in {@link Precision#toEpochUnits(LocalDateTime) epoch units}: a period
+ * ending at a unit and another one starting at the next unit are never active at the same time.
+ */
+public final class DateTimePeriodDepth {
+
+    private final Precision precision;
+    private final List<Step> steps;
+    private final int maxDepth;
+
+    private DateTimePeriodDepth(Precision precision, List<Step> steps, int maxDepth) {
+        this.precision = precision;
+        this.steps = steps;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Calculates the depth profile of the given periods.
+     *
+     * @param periods the periods to profile
+     * @return the depth profile of the given periods
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static DateTimePeriodDepth of(Collection<DateTimePeriod> periods) {
+        if (periods.isEmpty()) {
+            return new DateTimePeriodDepth(null, Collections.emptyList(), 0);
+        }
+
+        Precision precision = periods.iterator().next().precision();
+        long[] starts = new long[periods.size()];
+        long[] ends = new long[periods.size()];
+        int i = 0;
+        for (DateTimePeriod period : periods) {
+            DateTimePeriodSweep.ensurePrecisionMatches(precision, period);
+            starts[i] = precision.toEpochUnits(period.start());
+            // A period stops being active on the unit after its end
+            ends[i] = precision.toEpochUnits(period.end()) + 1;
+            i++;
+        }
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+
+        ArrayList<Step> steps = new ArrayList<>();
+        int maxDepth = 0;
+        int depth = 0;
+        int s = 0;
+        int e = 0;
+        long position = starts[0];
+        long stepEnd = Long.MIN_VALUE;
+        while (true) {
+            // Apply every start and end at the current position before reading the depth
+            while (s < starts.length && starts[s] == position) {
+                depth++;
+                s++;
+            }
+            while (e < ends.length && ends[e] == position) {
+                depth--;
+                e++;
+            }
+            if (e == ends.length) {
+                break;
+            }
+
+            long next = s < starts.length ? Math.min(starts[s], ends[e]) : ends[e];
+            if (depth > 0) {
+                // An end and a start on the same unit leave the depth unchanged: extend the last step
+                int last = steps.size() - 1;
+                if (last >= 0 && steps.get(last).depth == depth && stepEnd == position - 1) {
+                    position = precision.toEpochUnits(steps.remove(last).period.start());
+                }
+                steps.add(new Step(
+                        DateTimePeriod.make(
+                                precision.fromEpochUnits(position), precision.fromEpochUnits(next - 1), precision),
+                        depth));
+                stepEnd = next - 1;
+                maxDepth = Math.max(maxDepth, depth);
+            }
+            position = next;
+        }
+        return new DateTimePeriodDepth(precision, Collections.unmodifiableList(steps), maxDepth);
+    }
+
+    /**
+     * Returns the steps of the profile: the periods during which the number of active periods is
+     * constant and greater than zero. Touching steps have different depths.
+     *
+     * @return the steps, ordered by start
+     */
+    public List<Step> steps() {
+        return steps;
+    }
+
+    /**
+     * Returns the greatest number of periods active at the same time.
+     *
+     * @return the maximum depth, or 0 if there are no periods
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the time during which the maximum number of periods are active.
+     *
+     * @return A new collection containing the periods of maximum depth, ordered by start
+     */
+    public DateTimePeriodCollection peaks() {
+        return this.atLeast(Math.max(1, maxDepth));
+    }
+
+    /**
+     * Returns the time during which at least the given number of periods are active.
+     *
+     * @param depth the minimum number of active periods
+     * @return A new collection containing non-overlapping, non-touching periods ordered by start
+     */
+    public DateTimePeriodCollection atLeast(int depth) {
+        ArrayList<DateTimePeriod> periods = new ArrayList<>();
+        for (Step step : steps) {
+            if (step.depth < depth) {
+                continue;
+            }
+
+            int last = periods.size() - 1;
+            if (last >= 0 && periods.get(last).touchesWith(step.period)) {
+                periods.set(last, DateTimePeriod.make(periods.get(last).start(), step.period.end(), precision));
+            } else {
+                periods.add(step.period);
+            }
+        }
+        return DateTimePeriodCollection.of(periods);
+    }
+
+    /**
+     * Returns the number of periods active at the given date/time, in O(log n).
+     *
+     * @param localDateTime the date/time to look up
+     * @return the number of periods containing the given date/time
+     */
+    public int depthAt(LocalDateTime localDateTime) {
+        int low = 0;
+        int high = steps.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            DateTimePeriod period = steps.get(middle).period;
+            if (period.contains(localDateTime)) {
+                return steps.get(middle).depth;
+            } else if (period.start().isAfter(localDateTime)) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * A period during which a constant number of periods are active.
+     */
+    public static final class Step {
+
+        private final DateTimePeriod period;
+        private final int depth;
+
+        private Step(DateTimePeriod period, int depth) {
+            this.period = period;
+            this.depth = depth;
+        }
+
+        /**
+         * Returns the time covered by this step.
+         *
+         * @return the period of this step
+         */
+        public DateTimePeriod period() {
+            return period;
+        }
+
+        /**
+         * Returns the number of periods active during this step.
+         *
+         * @return the depth of this step
+         */
+        public int depth() {
+            return depth;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s x%d", period, depth);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+
+            Step step = (Step) object;
+            return depth == step.depth && Objects.equals(period, step.period);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(period, depth);
+        }
+    }
+}
@@ -49,4 +49,41 @@ public class DateTimePeriodException extends RuntimeException {
     public static DateTimePeriodException endBeforeStart(LocalDateTime start, LocalDateTime end) {
         return new DateTimePeriodException("The end time '%s' is before the start time '%s'.".formatted(start, end));
     }
+
+    /**
+     * Creates an exception indicating that periods expected to be ordered by start are not, i.e. a
+     * period starts before the period preceding it.
+     *
+     * @param previous the period read first
+     * @param next     the period read after it, which starts before it
+     * @return a new DateTimePeriodException with an appropriate error message
+     */
+    public static DateTimePeriodException notSortedByStart(DateTimePeriod previous, DateTimePeriod next) {
+        return new DateTimePeriodException(
+                "The period '%s' starts before the preceding period '%s'.".formatted(next, previous));
+    }
+
+    /**
+     * Creates an exception indicating that a period cannot be sliced into buckets finer than its
+     * own precision.
+     *
+     * @param bucket    the requested bucket precision
+     * @param precision the precision of the period
+     * @return a new DateTimePeriodException with an appropriate error message
+     */
+    public static DateTimePeriodException bucketFinerThanPrecision(Precision bucket, Precision precision) {
+        return new DateTimePeriodException(
+                "The bucket '%s' is finer than the period precision '%s'.".formatted(bucket, precision));
+    }
+
+    /**
+     * Creates an exception indicating that encoded periods cannot be decoded, because they are
+     * corrupted or were written in an unsupported format.
+     *
+     * @param reason what makes the encoded periods invalid
+     * @return a new DateTimePeriodException with an appropriate error message
+     */
+    public static DateTimePeriodException invalidEncoding(String reason) {
+        return new DateTimePeriodException("Invalid encoded periods: %s.".formatted(reason));
+    }
 }
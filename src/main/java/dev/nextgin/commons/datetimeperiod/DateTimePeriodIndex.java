@@ -0,0 +1,286 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable index over a collection of periods answering stabbing queries ("which periods
+ * contain this instant") and window queries ("which periods overlap this period") in
+ * O(log n + k), where k is the number of periods reported.
+ * <p>
+ * The periods are kept in a centred interval tree. Every node holds the periods containing its
+ * centre, once sorted by start and once sorted by end, and hands the periods ending before or
+ * starting after it to its left or right child. Centres are the median endpoints of their
+ * subtrees, so the tree is O(log n) deep. A stabbing query follows a single path from the root and
+ * only reads, at each node, the prefix of one list made of periods containing the instant. A
+ * window query is a stabbing query at the start of the window, followed by the periods starting
+ * within the window, found by binary search over all periods sorted by start.
+ * <p>
+ * The consumer variants report periods in no particular order. The collection variants order
+ * them by start, which additionally sorts the periods found by the stabbing query.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class DateTimePeriodIndex {
+
+    private final DateTimePeriod[] periods;
+    private final long[] starts;
+    private final long[] ends;
+
+    private final long[] centers;
+    private final int[] lefts;
+    private final int[] rights;
+    private final int[] froms;
+    private final int[] tos;
+    private final int[] byStart;
+    private final int[] byEnd;
+    private final int root;
+
+    private DateTimePeriodIndex(DateTimePeriod[] periods) {
+        this.periods = periods;
+        this.starts = new long[periods.length];
+        this.ends = new long[periods.length];
+
+        for (int i = 0; i < periods.length; i++) {
+            DateTimePeriodSweep.ensurePrecisionMatches(periods[0].precision(), periods[i]);
+            this.starts[i] = periods[i].precision().toEpochUnits(periods[i].start());
+            this.ends[i] = periods[i].precision().toEpochUnits(periods[i].end());
+        }
+
+        this.centers = new long[periods.length];
+        this.lefts = new int[periods.length];
+        this.rights = new int[periods.length];
+        this.froms = new int[periods.length];
+        this.tos = new int[periods.length];
+        this.byStart = new int[periods.length];
+        this.byEnd = new int[periods.length];
+
+        int[] ending = IntStream.range(0, periods.length)
+                .boxed()
+                .sorted(Comparator.comparingLong(index -> ends[index]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.root = this.build(IntStream.range(0, periods.length).toArray(), ending, new int[2]);
+    }
+
+    /**
+     * Builds an index over the given periods.
+     *
+     * @param periods to be indexed
+     * @return A new index over the given periods
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static DateTimePeriodIndex of(Collection<DateTimePeriod> periods) {
+        DateTimePeriod[] sorted = periods.toArray(new DateTimePeriod[0]);
+        Arrays.sort(sorted, DateTimePeriodSweep.BY_START);
+        return new DateTimePeriodIndex(sorted);
+    }
+
+    /**
+     * Finds the periods containing the specified point in time.
+     *
+     * @param localDateTime The LocalDateTime to look up
+     * @return A new collection containing the indexed periods that
+     * {@link DateTimePeriod#contains(LocalDateTime) contain} the given time, ordered by start
+     */
+    public DateTimePeriodCollection stab(LocalDateTime localDateTime) {
+        IntStream.Builder found = IntStream.builder();
+        if (periods.length > 0) {
+            this.stab(periods[0].precision().toEpochUnits(localDateTime), found);
+        }
+        return this.collect(found.build().sorted());
+    }
+
+    /**
+     * Passes the periods containing the specified point in time to the given consumer, in no
+     * particular order.
+     *
+     * @param localDateTime The LocalDateTime to look up
+     * @param consumer      receiving every indexed period that contains the given time
+     */
+    public void stab(LocalDateTime localDateTime, Consumer<DateTimePeriod> consumer) {
+        if (periods.length == 0) {
+            return;
+        }
+
+        this.stab(periods[0].precision().toEpochUnits(localDateTime), index -> consumer.accept(periods[index]));
+    }
+
+    /**
+     * Finds the periods overlapping the given window.
+     *
+     * @param window The period to look up
+     * @return A new collection containing the indexed periods that
+     * {@link DateTimePeriod#overlapsWith(DateTimePeriod) overlap} the given window, ordered by start
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public DateTimePeriodCollection overlapping(DateTimePeriod window) {
+        if (periods.length == 0) {
+            return DateTimePeriodCollection.empty();
+        }
+
+        Precision precision = periods[0].precision();
+        DateTimePeriodSweep.ensurePrecisionMatches(precision, window);
+        long start = precision.toEpochUnits(window.start());
+        long end = precision.toEpochUnits(window.end());
+
+        IntStream.Builder stabbed = IntStream.builder();
+        this.stab(start, stabbed);
+        return this.collect(IntStream.concat(stabbed.build().sorted(), this.startingWithin(start, end)));
+    }
+
+    /**
+     * Passes the periods overlapping the given window to the given consumer, in no particular
+     * order.
+     *
+     * @param window   The period to look up
+     * @param consumer receiving every indexed period that overlaps the given window
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public void overlapping(DateTimePeriod window, Consumer<DateTimePeriod> consumer) {
+        if (periods.length == 0) {
+            return;
+        }
+
+        Precision precision = periods[0].precision();
+        DateTimePeriodSweep.ensurePrecisionMatches(precision, window);
+        long start = precision.toEpochUnits(window.start());
+        long end = precision.toEpochUnits(window.end());
+
+        IntConsumer report = index -> consumer.accept(periods[index]);
+        this.stab(start, report);
+        this.startingWithin(start, end).forEach(report);
+    }
+
+    /**
+     * Returns the number of indexed periods.
+     *
+     * @return the number of periods in this index
+     */
+    public int size() {
+        return periods.length;
+    }
+
+    /**
+     * Builds the subtree holding the given periods, once sorted by start and once sorted by end,
+     * and returns its root node, or -1 when there are no periods. The cursor holds the next free
+     * node and the next free slot of the node lists.
+     */
+    private int build(int[] ascending, int[] ending, int[] cursor) {
+        int count = ascending.length;
+        if (count == 0) {
+            return -1;
+        }
+
+        long center = this.medianEndpoint(ascending, ending);
+        int node = cursor[0]++;
+        centers[node] = center;
+        froms[node] = cursor[1];
+
+        int[] leftAscending = new int[count];
+        int[] rightAscending = new int[count];
+        int left = 0;
+        int right = 0;
+        for (int index : ascending) {
+            if (ends[index] < center) {
+                leftAscending[left++] = index;
+            } else if (starts[index] > center) {
+                rightAscending[right++] = index;
+            } else {
+                byStart[cursor[1]++] = index;
+            }
+        }
+        tos[node] = cursor[1];
+
+        int[] leftEnding = new int[left];
+        int[] rightEnding = new int[right];
+        int slot = tos[node];
+        left = 0;
+        right = 0;
+        for (int index : ending) {
+            if (ends[index] < center) {
+                leftEnding[left++] = index;
+            } else if (starts[index] > center) {
+                rightEnding[right++] = index;
+            } else {
+                byEnd[--slot] = index;
+            }
+        }
+
+        lefts[node] = this.build(Arrays.copyOf(leftAscending, left), leftEnding, cursor);
+        rights[node] = this.build(Arrays.copyOf(rightAscending, right), rightEnding, cursor);
+        return node;
+    }
+
+    /**
+     * Returns the median of the starts and ends of the given periods. At most half of the periods
+     * end before it and at most half start after it, which keeps the tree balanced.
+     */
+    private long medianEndpoint(int[] ascending, int[] ending) {
+        int start = 0;
+        int end = 0;
+        long median = 0;
+        for (int i = 0; i <= ascending.length; i++) {
+            if (end == ending.length || (start < ascending.length && starts[ascending[start]] <= ends[ending[end]])) {
+                median = starts[ascending[start++]];
+            } else {
+                median = ends[ending[end++]];
+            }
+        }
+        return median;
+    }
+
+    private void stab(long units, IntConsumer consumer) {
+        int node = root;
+        while (node >= 0) {
+            long center = centers[node];
+            if (units < center) {
+                for (int i = froms[node]; i < tos[node] && starts[byStart[i]] <= units; i++) {
+                    consumer.accept(byStart[i]);
+                }
+                node = lefts[node];
+            } else if (units > center) {
+                for (int i = froms[node]; i < tos[node] && ends[byEnd[i]] >= units; i++) {
+                    consumer.accept(byEnd[i]);
+                }
+                node = rights[node];
+            } else {
+                for (int i = froms[node]; i < tos[node]; i++) {
+                    consumer.accept(byStart[i]);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the indexes of the periods starting after the given start and no later than the
+     * given end, in start order.
+     */
+    private IntStream startingWithin(long start, long end) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] <= start) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        int first = low;
+        return IntStream.range(first, starts.length).takeWhile(index -> starts[index] <= end);
+    }
+
+    private DateTimePeriodCollection collect(IntStream indexes) {
+        DateTimePeriodCollection found = DateTimePeriodCollection.empty();
+        indexes.forEach(index -> found.add(periods[index]));
+        return found;
+    }
+}
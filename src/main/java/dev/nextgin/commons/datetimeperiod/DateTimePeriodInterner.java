@@ -0,0 +1,172 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import jakarta.annotation.Nullable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in, bounded cache of canonical periods. Building the same aligned periods over and over,
+ * such as the day or hour buckets of a report, returns a single shared instance per period, so
+ * repeated periods cost no allocation and compare equal by reference.
+ * <p>
+ * Periods are keyed by precision and by their start and end as
+ * {@link Precision#toEpochUnits(LocalDateTime) epoch units}, and cached in a fixed number of slots
+ * chosen by hash. A period taking the slot of another one evicts it, so memory stays bounded and no
+ * bookkeeping is needed on lookups. Hits, misses and evictions are counted.
+ * <pre>
+ * DateTimePeriodInterner buckets = DateTimePeriodInterner.withCapacity(4096);
+ * DateTimePeriod hour = buckets.make(start, start, Precision.HOUR);
+ * </pre>
+ * This class is thread-safe. Concurrent lookups of the same period may briefly create more than one
+ * instance, all equal.
+ */
+public final class DateTimePeriodInterner {
+
+    private final DateTimePeriod[] slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private DateTimePeriodInterner(int capacity) {
+        this.slots = new DateTimePeriod[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Creates an empty cache holding at most the given number of periods.
+     *
+     * @param capacity the maximum number of cached periods, rounded up to a power of two
+     * @return A new, empty cache
+     * @throws IllegalArgumentException if the capacity is not positive or exceeds 2^30
+     */
+    public static DateTimePeriodInterner withCapacity(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        return new DateTimePeriodInterner(capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    /**
+     * Returns the canonical instance of a period between two dates with DAY precision.
+     *
+     * @param start The starting date of the period.
+     * @param end   The ending date of the period.
+     * @return the cached period equal to {@link DateTimePeriod#make(LocalDate, LocalDate)}
+     * @throws DateTimePeriodException if end is before start
+     */
+    public DateTimePeriod make(LocalDate start, LocalDate end) {
+        // Epoch days are the DAY units: date/times are only built on a miss
+        long startUnits = start.toEpochDay();
+        long endUnits = end.toEpochDay();
+        int index = this.index(Precision.DAY, startUnits, endUnits);
+        DateTimePeriod cached = this.cached(index, Precision.DAY, startUnits, endUnits);
+        return cached != null ? cached : this.store(index, DateTimePeriod.make(start, end));
+    }
+
+    /**
+     * Returns the canonical instance of a period between two date/times with the given precision.
+     *
+     * @param start     The starting date and time of the period.
+     * @param end       The ending date and time of the period.
+     * @param precision The precision level for the period.
+     * @return the cached period equal to
+     * {@link DateTimePeriod#make(LocalDateTime, LocalDateTime, Precision)}
+     * @throws DateTimePeriodException if end is before start
+     */
+    public DateTimePeriod make(LocalDateTime start, LocalDateTime end, Precision precision) {
+        long startUnits = precision.toEpochUnits(start);
+        long endUnits = precision.toEpochUnits(end);
+        int index = this.index(precision, startUnits, endUnits);
+        DateTimePeriod cached = this.cached(index, precision, startUnits, endUnits);
+        return cached != null ? cached : this.store(index, DateTimePeriod.make(start, end, precision));
+    }
+
+    /**
+     * Returns the canonical instance of the given period, caching it if no equal period is cached.
+     *
+     * @param period the period to intern
+     * @return the cached period equal to the given one, possibly the given one itself
+     */
+    public DateTimePeriod intern(DateTimePeriod period) {
+        int index = this.index(period.precision(), period.startUnits(), period.endUnits());
+        DateTimePeriod cached = this.cached(index, period.precision(), period.startUnits(), period.endUnits());
+        return cached != null ? cached : this.store(index, period);
+    }
+
+    /**
+     * Returns the number of lookups that found their period in this cache.
+     *
+     * @return the number of hits
+     */
+    public long hitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to cache a new period.
+     *
+     * @return the number of misses
+     */
+    public long missCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the number of cached periods replaced by another period.
+     *
+     * @return the number of evictions
+     */
+    public long evictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Returns the maximum number of periods held by this cache.
+     *
+     * @return the capacity of this cache
+     */
+    public int capacity() {
+        return this.slots.length;
+    }
+
+    /**
+     * Removes every cached period and resets the statistics.
+     */
+    public void clear() {
+        Arrays.fill(this.slots, null);
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+    }
+
+    @Nullable private DateTimePeriod cached(int index, Precision precision, long startUnits, long endUnits) {
+        DateTimePeriod cached = this.slots[index];
+        if (cached != null
+                && cached.precision() == precision
+                && cached.startUnits() == startUnits
+                && cached.endUnits() == endUnits) {
+            this.hits.increment();
+            return cached;
+        }
+        return null;
+    }
+
+    private DateTimePeriod store(int index, DateTimePeriod period) {
+        this.misses.increment();
+        if (this.slots[index] != null) {
+            this.evictions.increment();
+        }
+
+        // Periods are immutable with final fields, so a plain write publishes them safely
+        this.slots[index] = period;
+        return period;
+    }
+
+    private int index(Precision precision, long startUnits, long endUnits) {
+        long hash = (startUnits * 0x9E3779B97F4A7C15L + endUnits) * 0xBF58476D1CE4E5B9L + precision.ordinal();
+        return (int) (hash ^ (hash >>> 32)) & this.mask;
+    }
+}
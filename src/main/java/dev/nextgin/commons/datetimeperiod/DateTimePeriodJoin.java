@@ -0,0 +1,153 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Interval joins: finds every pair of overlapping periods between two collections, without
+ * comparing every period of one collection with every period of the other.
+ * <p>
+ * Both sides are sorted by start and swept together. Each side keeps the periods started so far
+ * that may still overlap an upcoming period; a period overlaps exactly the active periods of the
+ * other side that have not ended before it starts. A join therefore costs
+ * O((n + m) log(n + m) + k) for n and m periods and k overlapping pairs, and pairs are passed to a
+ * consumer as they are found instead of being collected:
+ * <pre>
+ * DateTimePeriodJoin.join(orders, Order::period, prices, Price::validity,
+ *         (order, price, overlap) -&gt; charge(order, price, overlap));
+ * </pre>
+ * Every join throws a {@link DateTimePeriodException} if the precisions of the periods do not
+ * match.
+ */
+public final class DateTimePeriodJoin {
+
+    private DateTimePeriodJoin() {}
+
+    /**
+     * Receives the pairs of overlapping items found by a join.
+     *
+     * @param <L> the type of the items of the left side
+     * @param <R> the type of the items of the right side
+     */
+    @FunctionalInterface
+    public interface OverlapConsumer<L, R> {
+
+        /**
+         * Receives a pair of items whose periods overlap.
+         *
+         * @param left    the item of the left side
+         * @param right   the item of the right side
+         * @param overlap the {@link DateTimePeriod#overlap(DateTimePeriod) overlap} of their periods
+         */
+        void accept(L left, R right, DateTimePeriod overlap);
+    }
+
+    /**
+     * Finds every pair of overlapping periods between two collections.
+     *
+     * @param left     the periods of the left side
+     * @param right    the periods of the right side
+     * @param consumer receives each pair of overlapping periods with their overlap
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static void join(
+            Collection<DateTimePeriod> left,
+            Collection<DateTimePeriod> right,
+            OverlapConsumer<? super DateTimePeriod, ? super DateTimePeriod> consumer) {
+        join(left, Function.identity(), right, Function.identity(), consumer);
+    }
+
+    /**
+     * Finds every pair of items with overlapping periods between two collections.
+     *
+     * @param left        the items of the left side
+     * @param leftPeriod  extracts the period of an item of the left side
+     * @param right       the items of the right side
+     * @param rightPeriod extracts the period of an item of the right side
+     * @param consumer    receives each pair of items whose periods overlap, with their overlap
+     * @param <L>         the type of the items of the left side
+     * @param <R>         the type of the items of the right side
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static <L, R> void join(
+            Collection<? extends L> left,
+            Function<? super L, DateTimePeriod> leftPeriod,
+            Collection<? extends R> right,
+            Function<? super R, DateTimePeriod> rightPeriod,
+            OverlapConsumer<? super L, ? super R> consumer) {
+        Keyed<L>[] lefts = keyed(left, leftPeriod);
+        Keyed<R>[] rights = keyed(right, rightPeriod);
+        if (lefts.length == 0 || rights.length == 0) {
+            return;
+        }
+
+        Precision precision = lefts[0].period.precision();
+        DateTimePeriodSweep.ensurePrecisionMatches(precision, rights[0].period);
+
+        ArrayList<Keyed<L>> activeLefts = new ArrayList<>();
+        ArrayList<Keyed<R>> activeRights = new ArrayList<>();
+        int l = 0;
+        int r = 0;
+        while (l < lefts.length || r < rights.length) {
+            if (r == rights.length
+                    || (l < lefts.length && !rights[r].period.start().isBefore(lefts[l].period.start()))) {
+                Keyed<L> current = lefts[l++];
+                DateTimePeriodSweep.ensurePrecisionMatches(precision, current.period);
+                for (Keyed<R> other : expire(activeRights, current.period)) {
+                    consumer.accept(current.item, other.item, overlap(current.period, other.period));
+                }
+                activeLefts.add(current);
+            } else {
+                Keyed<R> current = rights[r++];
+                DateTimePeriodSweep.ensurePrecisionMatches(precision, current.period);
+                for (Keyed<L> other : expire(activeLefts, current.period)) {
+                    consumer.accept(other.item, current.item, overlap(other.period, current.period));
+                }
+                activeRights.add(current);
+            }
+        }
+    }
+
+    /**
+     * Drops the active periods ending before the given one starts, keeping the order of the
+     * others. Every period still active starts no later than the given one, so it overlaps it.
+     *
+     * @return the given list, holding the periods overlapping the given one
+     */
+    private static <T> ArrayList<Keyed<T>> expire(ArrayList<Keyed<T>> active, DateTimePeriod period) {
+        active.removeIf(keyed -> keyed.period.end().isBefore(period.start()));
+        return active;
+    }
+
+    private static DateTimePeriod overlap(DateTimePeriod left, DateTimePeriod right) {
+        return DateTimePeriod.make(
+                left.start().isAfter(right.start()) ? left.start() : right.start(),
+                left.end().isBefore(right.end()) ? left.end() : right.end(),
+                left.precision());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Keyed<T>[] keyed(Collection<? extends T> items, Function<? super T, DateTimePeriod> period) {
+        Keyed<T>[] keyed = (Keyed<T>[]) new Keyed<?>[items.size()];
+        int i = 0;
+        for (T item : items) {
+            keyed[i++] = new Keyed<>(item, period.apply(item));
+        }
+        Arrays.sort(keyed, Comparator.comparing(k -> k.period.start()));
+        return keyed;
+    }
+
+    private static final class Keyed<T> {
+
+        private final T item;
+        private final DateTimePeriod period;
+
+        private Keyed(T item, DateTimePeriod period) {
+            this.item = item;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A set of periods that is always normalized: its periods are sorted by start and never overlap
+ * nor touch each other. Adding a period merges it with the periods it overlaps or touches, and
+ * {@link #subtract(DateTimePeriod) subtracting} a period carves its time out of the set, so the set
+ * always holds the time added to it and not subtracted since, e.g. the busy time of a calendar.
+ * <p>
+ * Periods are indexed by start, so lookups by date/time, insertions and subtractions run in
+ * O(log n), insertions and subtractions additionally paying for the periods they absorb. Reading
+ * the union is a plain iteration, {@link #gaps()} is a single walk over neighbours, and the busy
+ * and {@link #free(DateTimePeriod) free} time of a window only visit the periods overlapping it.
+ * <p>
+ * All the periods of a set share the same precision. This class is not thread-safe.
+ *
+ * @see DateTimePeriodCollection#union()
+ */
+public final class DateTimePeriodSet extends AbstractSet<DateTimePeriod> {
+
+    private final TreeMap<LocalDateTime, DateTimePeriod> periods;
+
+    private DateTimePeriodSet() {
+        this.periods = new TreeMap<>();
+    }
+
+    /**
+     * Creates an empty set.
+     *
+     * @return A new, empty set
+     */
+    public static DateTimePeriodSet empty() {
+        return new DateTimePeriodSet();
+    }
+
+    /**
+     * Creates a new set holding the union of the given periods.
+     *
+     * @param periods to be included in the new set
+     * @return A new set containing the union of the given periods
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static DateTimePeriodSet of(DateTimePeriod... periods) {
+        DateTimePeriodSet set = new DateTimePeriodSet();
+        for (DateTimePeriod period : periods) {
+            set.add(period);
+        }
+        return set;
+    }
+
+    /**
+     * Creates a new set holding the union of the given Collection of periods.
+     *
+     * @param periods A Collection of periods to be included in the new set
+     * @return A new set containing the union of the given periods
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static DateTimePeriodSet of(Collection<DateTimePeriod> periods) {
+        DateTimePeriodSet set = new DateTimePeriodSet();
+        for (DateTimePeriod period : periods) {
+            set.add(period);
+        }
+        return set;
+    }
+
+    /**
+     * Adds a period to this set, merging it with the periods it overlaps or touches.
+     *
+     * @param period to be added
+     * @return true if this set changed, false if the period was already covered
+     * @throws DateTimePeriodException if precision does not match
+     */
+    @Override
+    public boolean add(DateTimePeriod period) {
+        return merge(this.periods, period);
+    }
+
+    /**
+     * Removes the time of the given period from this set. Periods of this set partially covered by
+     * the given period are cut, possibly in two, like {@link DateTimePeriod#subtract(DateTimePeriod)}
+     * does.
+     *
+     * @param period to be subtracted from this set
+     * @return true if this set changed, false if the given period did not overlap it
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public boolean subtract(DateTimePeriod period) {
+        return carve(this.periods, period);
+    }
+
+    /**
+     * Returns the period with the greatest start less than or equal to the given date/time.
+     *
+     * @param localDateTime the date/time to look up
+     * @return the matching period, or null if there is none
+     */
+    @Nullable public DateTimePeriod floor(LocalDateTime localDateTime) {
+        return value(this.periods.floorEntry(localDateTime));
+    }
+
+    /**
+     * Returns the period with the least start greater than or equal to the given date/time.
+     *
+     * @param localDateTime the date/time to look up
+     * @return the matching period, or null if there is none
+     */
+    @Nullable public DateTimePeriod ceiling(LocalDateTime localDateTime) {
+        return value(this.periods.ceilingEntry(localDateTime));
+    }
+
+    /**
+     * Returns the period with the greatest start strictly less than the given date/time.
+     *
+     * @param localDateTime the date/time to look up
+     * @return the matching period, or null if there is none
+     */
+    @Nullable public DateTimePeriod lower(LocalDateTime localDateTime) {
+        return value(this.periods.lowerEntry(localDateTime));
+    }
+
+    /**
+     * Returns the period with the least start strictly greater than the given date/time.
+     *
+     * @param localDateTime the date/time to look up
+     * @return the matching period, or null if there is none
+     */
+    @Nullable public DateTimePeriod higher(LocalDateTime localDateTime) {
+        return value(this.periods.higherEntry(localDateTime));
+    }
+
+    /**
+     * Returns the period of this set that contains the given date/time.
+     *
+     * @param localDateTime the date/time to look up
+     * @return the period {@link DateTimePeriod#contains(LocalDateTime) containing} the given
+     * date/time, or null if it is not covered by this set
+     */
+    @Nullable public DateTimePeriod covering(LocalDateTime localDateTime) {
+        Map.Entry<LocalDateTime, DateTimePeriod> floor = this.periods.floorEntry(localDateTime);
+        if (floor == null || !floor.getValue().contains(localDateTime)) {
+            return null;
+        }
+        return floor.getValue();
+    }
+
+    /**
+     * Checks if the given period is entirely covered by this set.
+     *
+     * @param period The period to check
+     * @return true if a period of this set fully contains the given period, false otherwise
+     */
+    public boolean covers(DateTimePeriod period) {
+        Map.Entry<LocalDateTime, DateTimePeriod> floor = this.periods.floorEntry(period.start());
+        return floor != null && floor.getValue().contains(period);
+    }
+
+    /**
+     * Checks if any period of this set overlaps the given period.
+     *
+     * @param period The period to check
+     * @return true if some time of the given period is covered by this set, false otherwise
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public boolean overlaps(DateTimePeriod period) {
+        this.ensurePrecisionMatches(period);
+        Map.Entry<LocalDateTime, DateTimePeriod> floor = this.periods.floorEntry(period.end());
+        return floor != null && !floor.getValue().end().isBefore(period.start());
+    }
+
+    /**
+     * Returns the period of this set with the earliest start.
+     *
+     * @return the first period, or null if this set is empty
+     */
+    @Nullable public DateTimePeriod first() {
+        return value(this.periods.firstEntry());
+    }
+
+    /**
+     * Returns the period of this set with the latest start.
+     *
+     * @return the last period, or null if this set is empty
+     */
+    @Nullable public DateTimePeriod last() {
+        return value(this.periods.lastEntry());
+    }
+
+    /**
+     * Calculates the boundary period that encompasses all periods in this set.
+     *
+     * @return A DateTimePeriod from the start of the first period to the end of the last period, or
+     * null if this set is empty.
+     */
+    @Nullable public DateTimePeriod boundaries() {
+        if (this.periods.isEmpty()) {
+            return null;
+        }
+
+        DateTimePeriod first = this.periods.firstEntry().getValue();
+        DateTimePeriod last = this.periods.lastEntry().getValue();
+        return first == last ? first : DateTimePeriod.make(first.start(), last.end(), first.precision());
+    }
+
+    /**
+     * Returns the union of the periods added to this set. As the set is always normalized, this is
+     * a plain copy of its periods.
+     *
+     * @return A new collection containing the periods of this set, ordered by start
+     */
+    public DateTimePeriodCollection union() {
+        return DateTimePeriodCollection.of(this.periods.values());
+    }
+
+    /**
+     * Calculates the gaps between the periods of this set.
+     *
+     * @return A new collection containing the periods between two consecutive periods of this set,
+     * ordered by start
+     */
+    public DateTimePeriodCollection gaps() {
+        DateTimePeriodCollection gaps = DateTimePeriodCollection.empty();
+        DateTimePeriod previous = null;
+        for (DateTimePeriod period : this.periods.values()) {
+            if (previous != null) {
+                gaps.add(previous.gap(period));
+            }
+            previous = period;
+        }
+        return gaps;
+    }
+
+    /**
+     * Calculates the intersection of this set with the given window, i.e. its busy time within the
+     * window.
+     *
+     * @param window The period to intersect with this set
+     * @return A new collection containing the time of this set within the window, ordered by start
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public DateTimePeriodCollection intersect(DateTimePeriod window) {
+        DateTimePeriodCollection busy = DateTimePeriodCollection.empty();
+        for (DateTimePeriod period : this.overlapping(window)) {
+            busy.add(window.contains(period) ? period : window.overlap(period));
+        }
+        return busy;
+    }
+
+    /**
+     * Calculates the time of the given window that this set does not cover, i.e. its free time
+     * within the window.
+     *
+     * @param window The period to look up
+     * @return A new collection containing the time of the window outside of this set, ordered by
+     * start
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public DateTimePeriodCollection free(DateTimePeriod window) {
+        Precision precision = window.precision();
+        DateTimePeriodCollection free = DateTimePeriodCollection.empty();
+        LocalDateTime cursor = window.start();
+        for (DateTimePeriod period : this.overlapping(window)) {
+            if (period.start().isAfter(cursor)) {
+                free.add(DateTimePeriod.make(cursor, period.start().minus(precision.interval()), precision));
+            }
+            cursor = period.end().plus(precision.interval());
+        }
+
+        if (!cursor.isAfter(window.end())) {
+            free.add(cursor.equals(window.start()) ? window : DateTimePeriod.make(cursor, window.end(), precision));
+        }
+        return free;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return element instanceof DateTimePeriod period && period.equals(this.periods.get(period.start()));
+    }
+
+    /**
+     * Removes the given period if it is one of the periods of this set.
+     *
+     * @param element the period to be removed
+     * @return true if this set contained the given period
+     */
+    @Override
+    public boolean remove(Object element) {
+        return this.contains(element) && this.periods.remove(((DateTimePeriod) element).start()) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.periods.size();
+    }
+
+    @Override
+    public void clear() {
+        this.periods.clear();
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<DateTimePeriod> iterator() {
+        return this.periods.values().iterator();
+    }
+
+    /**
+     * Merges a period into a map of normalized periods keyed by start, absorbing the periods it
+     * overlaps or touches. The merged period is stored before the absorbed ones are removed, so
+     * that readers of a concurrent map never miss covered time.
+     *
+     * @param periods the normalized periods, keyed by start
+     * @param period  the period to merge
+     * @return true if the map changed, false if the period was already covered
+     * @throws DateTimePeriodException if precision does not match
+     */
+    static boolean merge(NavigableMap<LocalDateTime, DateTimePeriod> periods, DateTimePeriod period) {
+        Map.Entry<LocalDateTime, DateTimePeriod> any = periods.firstEntry();
+        if (any != null) {
+            DateTimePeriodSweep.ensurePrecisionMatches(any.getValue().precision(), period);
+        }
+
+        Precision precision = period.precision();
+        LocalDateTime start = period.start();
+        LocalDateTime end = period.end();
+
+        Map.Entry<LocalDateTime, DateTimePeriod> floor = periods.floorEntry(start);
+        if (floor != null && !floor.getValue().end().plus(precision.interval()).isBefore(start)) {
+            if (!floor.getValue().end().isBefore(end)) {
+                return false;
+            }
+            start = floor.getKey();
+        }
+
+        // Periods are normalized, so the last absorbed period is the one ending last
+        NavigableMap<LocalDateTime, DateTimePeriod> absorbed =
+                periods.subMap(start, true, end.plus(precision.interval()), true);
+        Map.Entry<LocalDateTime, DateTimePeriod> last = absorbed.lastEntry();
+        if (last == null) {
+            periods.put(start, period);
+            return true;
+        }
+
+        if (last.getValue().end().isAfter(end)) {
+            end = last.getValue().end();
+        }
+        periods.put(start, DateTimePeriod.make(start, end, precision));
+        absorbed.tailMap(start, false).clear();
+        return true;
+    }
+
+    /**
+     * Carves the time of a period out of a map of normalized periods keyed by start, cutting the
+     * periods it partially covers.
+     *
+     * @param periods the normalized periods, keyed by start
+     * @param hole    the period to carve out
+     * @return true if the map changed, false if the period did not overlap it
+     * @throws DateTimePeriodException if precision does not match
+     */
+    static boolean carve(NavigableMap<LocalDateTime, DateTimePeriod> periods, DateTimePeriod hole) {
+        Map.Entry<LocalDateTime, DateTimePeriod> any = periods.firstEntry();
+        if (any == null) {
+            return false;
+        }
+        DateTimePeriodSweep.ensurePrecisionMatches(any.getValue().precision(), hole);
+
+        Precision precision = hole.precision();
+        LocalDateTime start = hole.start();
+        LocalDateTime end = hole.end();
+        boolean changed = false;
+
+        // Remaining tails are stored before the heads are cut and the covered periods removed, so
+        // that readers of a concurrent map never miss time outside of the hole
+        Map.Entry<LocalDateTime, DateTimePeriod> lower = periods.lowerEntry(start);
+        if (lower != null && !lower.getValue().end().isBefore(start)) {
+            DateTimePeriod cut = lower.getValue();
+            if (cut.end().isAfter(end)) {
+                LocalDateTime tail = end.plus(precision.interval());
+                periods.put(tail, DateTimePeriod.make(tail, cut.end(), precision));
+            }
+            periods.put(cut.start(), DateTimePeriod.make(cut.start(), start.minus(precision.interval()), precision));
+            changed = true;
+        }
+
+        NavigableMap<LocalDateTime, DateTimePeriod> covered = periods.subMap(start, true, end, true);
+        Map.Entry<LocalDateTime, DateTimePeriod> last = covered.lastEntry();
+        if (last == null) {
+            return changed;
+        }
+
+        if (last.getValue().end().isAfter(end)) {
+            LocalDateTime tail = end.plus(precision.interval());
+            periods.put(tail, DateTimePeriod.make(tail, last.getValue().end(), precision));
+        }
+        covered.clear();
+        return true;
+    }
+
+    private Collection<DateTimePeriod> overlapping(DateTimePeriod window) {
+        this.ensurePrecisionMatches(window);
+        LocalDateTime from = window.start();
+        Map.Entry<LocalDateTime, DateTimePeriod> floor = this.periods.floorEntry(from);
+        if (floor != null && !floor.getValue().end().isBefore(from)) {
+            from = floor.getKey();
+        }
+        return this.periods.subMap(from, true, window.end(), true).values();
+    }
+
+    private void ensurePrecisionMatches(DateTimePeriod period) {
+        Map.Entry<LocalDateTime, DateTimePeriod> any = this.periods.firstEntry();
+        if (any != null) {
+            DateTimePeriodSweep.ensurePrecisionMatches(any.getValue().precision(), period);
+        }
+    }
+
+    @Nullable private static DateTimePeriod value(@Nullable Map.Entry<LocalDateTime, DateTimePeriod> entry) {
+        return entry == null ? null : entry.getValue();
+    }
+}
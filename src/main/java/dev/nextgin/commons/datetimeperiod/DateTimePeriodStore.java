@@ -0,0 +1,302 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * A read-only store of periods kept in a file and memory-mapped, so that collections far larger
+ * than the heap can be queried. Opening a store only reads its header: records are read from the
+ * mapped file when a query reaches them, and periods are created on demand.
+ * <p>
+ * The file starts with a 16 bytes header, followed by fixed-width records sorted by start:
+ * <pre>
+ * header   magic "DTPS" (4 bytes), version (1 byte), precision (1 byte), reserved (2 bytes),
+ *          count (8 bytes)
+ * record   start, end and latest end of the records up to this one, as 8 bytes epoch units of
+ *          the precision
+ * </pre>
+ * Fixed-width records allow binary searches by start. The latest end of the preceding records
+ * tells where the periods ending after a given time begin, which bounds window queries.
+ * <p>
+ * Large files are mapped in several segments. This class is immutable and thread-safe.
+ *
+ * @see Precision#toEpochUnits(LocalDateTime)
+ */
+public final class DateTimePeriodStore {
+
+    /**
+     * The version of the file format written by {@link #write(Path, Precision, Collection)}.
+     */
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x44545053;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_BYTES = 24;
+    private static final int END_OFFSET = 8;
+    private static final int MAX_END_OFFSET = 16;
+
+    /**
+     * Number of records mapped by a single segment, keeping segments under 2 GiB.
+     */
+    private static final int RECORDS_PER_SEGMENT = 1 << 26;
+
+    private final Precision precision;
+    private final long size;
+    private final MappedByteBuffer[] segments;
+    private final int recordsPerSegment;
+
+    private DateTimePeriodStore(Precision precision, long size, MappedByteBuffer[] segments, int recordsPerSegment) {
+        this.precision = precision;
+        this.size = size;
+        this.segments = segments;
+        this.recordsPerSegment = recordsPerSegment;
+    }
+
+    /**
+     * Writes the given periods to a store file, replacing it if it exists. The periods are sorted
+     * by start before being written.
+     *
+     * @param path      the file to write
+     * @param precision the precision of the periods
+     * @param periods   to be stored
+     * @throws IOException             if writing the file fails
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static void write(Path path, Precision precision, Collection<DateTimePeriod> periods) throws IOException {
+        DateTimePeriod[] sorted = periods.toArray(new DateTimePeriod[0]);
+        for (DateTimePeriod period : sorted) {
+            DateTimePeriodSweep.ensurePrecisionMatches(precision, period);
+        }
+        Arrays.sort(sorted, DateTimePeriodSweep.BY_START);
+
+        try (FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * 4096);
+            buffer.putInt(MAGIC)
+                    .put((byte) VERSION)
+                    .put((byte) DateTimePeriodCodec.code(precision))
+                    .putShort((short) 0)
+                    .putLong(sorted.length);
+
+            long maxEnd = Long.MIN_VALUE;
+            for (DateTimePeriod period : sorted) {
+                if (buffer.remaining() < RECORD_BYTES) {
+                    writeFully(channel, buffer);
+                }
+
+                long end = precision.toEpochUnits(period.end());
+                maxEnd = Math.max(maxEnd, end);
+                buffer.putLong(precision.toEpochUnits(period.start()))
+                        .putLong(end)
+                        .putLong(maxEnd);
+            }
+            writeFully(channel, buffer);
+        }
+    }
+
+    /**
+     * Opens a store file written by {@link #write(Path, Precision, Collection)}. Only the header is
+     * read; the records are mapped in memory and read on demand.
+     *
+     * @param path the file to open
+     * @return A new store over the periods of the file
+     * @throws IOException             if reading or mapping the file fails
+     * @throws DateTimePeriodException if the file is not a valid store
+     */
+    public static DateTimePeriodStore open(Path path) throws IOException {
+        return open(path, RECORDS_PER_SEGMENT);
+    }
+
+    static DateTimePeriodStore open(Path path, int recordsPerSegment) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    break;
+                }
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw DateTimePeriodException.invalidEncoding("not a period store");
+            }
+
+            int version = header.get();
+            if (version != VERSION) {
+                throw DateTimePeriodException.invalidEncoding("unsupported version " + version);
+            }
+
+            Precision precision = DateTimePeriodCodec.precision(header.get());
+            header.getShort();
+            long size = header.getLong();
+            long recordBytes = channel.size() - HEADER_BYTES;
+            if (recordBytes % RECORD_BYTES != 0 || size != recordBytes / RECORD_BYTES) {
+                throw DateTimePeriodException.invalidEncoding("invalid count " + size);
+            }
+
+            MappedByteBuffer[] segments =
+                    new MappedByteBuffer[Math.toIntExact((size + recordsPerSegment - 1) / recordsPerSegment)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i * recordsPerSegment;
+                long records = Math.min(recordsPerSegment, size - first);
+                segments[i] = channel.map(
+                        FileChannel.MapMode.READ_ONLY, HEADER_BYTES + first * RECORD_BYTES, records * RECORD_BYTES);
+            }
+
+            // The mappings stay valid once the channel is closed
+            return new DateTimePeriodStore(precision, size, segments, recordsPerSegment);
+        }
+    }
+
+    /**
+     * Returns the stored period at the given position, periods being ordered by start.
+     *
+     * @param index index of the period to return
+     * @return the period at the given position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public DateTimePeriod get(long index) {
+        Objects.checkIndex(index, this.size);
+        return DateTimePeriod.make(
+                precision.fromEpochUnits(this.read(index, 0)),
+                precision.fromEpochUnits(this.read(index, END_OFFSET)),
+                precision);
+    }
+
+    /**
+     * Returns the stored period with the greatest start less than or equal to the given date/time.
+     *
+     * @param localDateTime the date/time to look up
+     * @return the matching period, or null if there is none
+     */
+    @Nullable public DateTimePeriod floor(LocalDateTime localDateTime) {
+        long index = this.firstStartingAfter(precision.toEpochUnits(localDateTime)) - 1;
+        return index < 0 ? null : this.get(index);
+    }
+
+    /**
+     * Returns the stored period with the least start greater than or equal to the given date/time.
+     *
+     * @param localDateTime the date/time to look up
+     * @return the matching period, or null if there is none
+     */
+    @Nullable public DateTimePeriod ceiling(LocalDateTime localDateTime) {
+        long index = this.firstStartingAfter(precision.toEpochUnits(localDateTime) - 1);
+        return index == this.size ? null : this.get(index);
+    }
+
+    /**
+     * Lazily finds the stored periods containing the specified point in time.
+     *
+     * @param localDateTime The LocalDateTime to look up
+     * @return A stream of the stored periods that
+     * {@link DateTimePeriod#contains(LocalDateTime) contain} the given time, ordered by start
+     */
+    public Stream<DateTimePeriod> stab(LocalDateTime localDateTime) {
+        long units = precision.toEpochUnits(localDateTime);
+        return this.search(units, units);
+    }
+
+    /**
+     * Lazily finds the stored periods overlapping the given window. Two binary searches bound the
+     * candidate records: those starting before the end of the window, from the first one after
+     * which some period ends within or after the window. Records are read as the stream is
+     * consumed.
+     *
+     * @param window The period to look up
+     * @return A stream of the stored periods that
+     * {@link DateTimePeriod#overlapsWith(DateTimePeriod) overlap} the given window, ordered by start
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public Stream<DateTimePeriod> overlapping(DateTimePeriod window) {
+        DateTimePeriodSweep.ensurePrecisionMatches(precision, window);
+        return this.search(precision.toEpochUnits(window.start()), precision.toEpochUnits(window.end()));
+    }
+
+    /**
+     * Lazily streams all stored periods.
+     *
+     * @return A stream of the stored periods, ordered by start
+     */
+    public Stream<DateTimePeriod> stream() {
+        return LongStream.range(0, this.size).mapToObj(this::get);
+    }
+
+    /**
+     * Returns the number of stored periods.
+     *
+     * @return the number of periods in this store
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the precision of the stored periods.
+     *
+     * @return the Precision of the periods in this store
+     */
+    public Precision precision() {
+        return this.precision;
+    }
+
+    private Stream<DateTimePeriod> search(long start, long end) {
+        long from = this.firstEndingAtOrAfter(start);
+        long to = this.firstStartingAfter(end);
+        return LongStream.range(from, Math.max(from, to))
+                .filter(index -> this.read(index, END_OFFSET) >= start)
+                .mapToObj(this::get);
+    }
+
+    private long firstStartingAfter(long units) {
+        long low = 0;
+        long high = this.size;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (this.read(middle, 0) <= units) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long firstEndingAtOrAfter(long units) {
+        long low = 0;
+        long high = this.size;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (this.read(middle, MAX_END_OFFSET) < units) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long read(long index, int offset) {
+        int segment = (int) (index / this.recordsPerSegment);
+        int position = (int) (index % this.recordsPerSegment) * RECORD_BYTES + offset;
+        return this.segments[segment].getLong(position);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,242 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy union and gaps over periods that are already ordered by start, such as periods read from a
+ * sorted file. Periods are pulled from the source one at a time as the result is consumed, and only
+ * the run being merged is kept in memory, so arbitrarily large inputs are processed in constant
+ * memory.
+ * <p>
+ * The source must be ordered by start. A period starting before its predecessor makes the result
+ * fail with {@link DateTimePeriodException#notSortedByStart(DateTimePeriod, DateTimePeriod)} as soon
+ * as it is read, as does a period whose precision does not match the first one.
+ *
+ * @see DateTimePeriodCollection#union()
+ * @see DateTimePeriodCollection#gaps()
+ */
+public final class DateTimePeriodStreams {
+
+    private DateTimePeriodStreams() {}
+
+    /**
+     * Lazily merges the overlapping or touching periods of a source ordered by start.
+     *
+     * @param sorted the periods, ordered by start
+     * @return An iterator over the non-overlapping, non-touching periods covering the same time,
+     * ordered by start
+     */
+    public static Iterator<DateTimePeriod> union(Iterator<DateTimePeriod> sorted) {
+        return new UnionIterator(sorted);
+    }
+
+    /**
+     * Lazily merges the overlapping or touching periods of a stream ordered by start. Closing the
+     * returned stream closes the given one.
+     *
+     * @param sorted the periods, ordered by start
+     * @return A sequential stream of the non-overlapping, non-touching periods covering the same
+     * time, ordered by start
+     */
+    public static Stream<DateTimePeriod> union(Stream<DateTimePeriod> sorted) {
+        return stream(union(sorted.iterator()), sorted);
+    }
+
+    /**
+     * Lazily calculates the gaps between the periods of a source ordered by start.
+     *
+     * @param sorted the periods, ordered by start
+     * @return An iterator over the periods between the time covered by the source, ordered by start
+     */
+    public static Iterator<DateTimePeriod> gaps(Iterator<DateTimePeriod> sorted) {
+        return gaps(sorted, Duration.ZERO);
+    }
+
+    /**
+     * Lazily calculates the gaps of at least the given duration between the periods of a source
+     * ordered by start.
+     *
+     * @param sorted  the periods, ordered by start
+     * @param minimum The minimum {@link DateTimePeriod#duration() duration} of a gap to be included
+     * @return An iterator over the periods between the time covered by the source, ordered by start
+     */
+    public static Iterator<DateTimePeriod> gaps(Iterator<DateTimePeriod> sorted, Duration minimum) {
+        return new GapsIterator(sorted, minimum);
+    }
+
+    /**
+     * Lazily calculates the gaps between the periods of a stream ordered by start. Closing the
+     * returned stream closes the given one.
+     *
+     * @param sorted the periods, ordered by start
+     * @return A sequential stream of the periods between the time covered by the given stream,
+     * ordered by start
+     */
+    public static Stream<DateTimePeriod> gaps(Stream<DateTimePeriod> sorted) {
+        return gaps(sorted, Duration.ZERO);
+    }
+
+    /**
+     * Lazily calculates the gaps of at least the given duration between the periods of a stream
+     * ordered by start. Closing the returned stream closes the given one.
+     *
+     * @param sorted  the periods, ordered by start
+     * @param minimum The minimum {@link DateTimePeriod#duration() duration} of a gap to be included
+     * @return A sequential stream of the periods between the time covered by the given stream,
+     * ordered by start
+     */
+    public static Stream<DateTimePeriod> gaps(Stream<DateTimePeriod> sorted, Duration minimum) {
+        return stream(gaps(sorted.iterator(), minimum), sorted);
+    }
+
+    private static Stream<DateTimePeriod> stream(Iterator<DateTimePeriod> iterator, Stream<DateTimePeriod> source) {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(source::close);
+    }
+
+    /**
+     * Reads a source ordered by start, checking its order and precision, and computes the next
+     * element only when it is asked for.
+     */
+    private abstract static class SortedIterator implements Iterator<DateTimePeriod> {
+
+        private final Iterator<DateTimePeriod> source;
+        private DateTimePeriod last;
+        private DateTimePeriod next;
+
+        SortedIterator(Iterator<DateTimePeriod> source) {
+            this.source = source;
+        }
+
+        /**
+         * Computes the next element of the result.
+         *
+         * @return the next element, or null if there is none
+         */
+        abstract DateTimePeriod computeNext();
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                this.next = this.computeNext();
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public DateTimePeriod next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            DateTimePeriod next = this.next;
+            this.next = null;
+            return next;
+        }
+
+        boolean hasMore() {
+            return this.source.hasNext();
+        }
+
+        DateTimePeriod read() {
+            DateTimePeriod period = this.source.next();
+            if (this.last != null) {
+                DateTimePeriodSweep.ensurePrecisionMatches(this.last.precision(), period);
+                if (period.start().isBefore(this.last.start())) {
+                    throw DateTimePeriodException.notSortedByStart(this.last, period);
+                }
+            }
+
+            this.last = period;
+            return period;
+        }
+    }
+
+    private static final class UnionIterator extends SortedIterator {
+
+        private DateTimePeriod pending;
+
+        UnionIterator(Iterator<DateTimePeriod> source) {
+            super(source);
+        }
+
+        @Override
+        DateTimePeriod computeNext() {
+            if (this.pending == null) {
+                if (!this.hasMore()) {
+                    return null;
+                }
+                this.pending = this.read();
+            }
+
+            DateTimePeriod current = this.pending;
+            this.pending = null;
+            Precision precision = current.precision();
+            LocalDateTime end = current.end();
+            LocalDateTime reach = end.plus(precision.interval());
+            boolean extended = false;
+
+            while (this.hasMore()) {
+                DateTimePeriod period = this.read();
+                if (period.start().isAfter(reach)) {
+                    this.pending = period;
+                    break;
+                }
+
+                if (period.end().isAfter(end)) {
+                    end = period.end();
+                    reach = end.plus(precision.interval());
+                    extended = true;
+                }
+            }
+
+            return extended ? DateTimePeriod.make(current.start(), end, precision) : current;
+        }
+    }
+
+    private static final class GapsIterator extends SortedIterator {
+
+        private final Duration minimum;
+        private LocalDateTime end;
+        private LocalDateTime reach;
+
+        GapsIterator(Iterator<DateTimePeriod> source, Duration minimum) {
+            super(source);
+            this.minimum = minimum;
+        }
+
+        @Override
+        DateTimePeriod computeNext() {
+            while (this.hasMore()) {
+                DateTimePeriod period = this.read();
+                Precision precision = period.precision();
+
+                DateTimePeriod gap = null;
+                if (this.reach != null && period.start().isAfter(this.reach)) {
+                    LocalDateTime gapEnd = period.start().minus(precision.interval());
+                    if (Duration.between(this.reach, gapEnd).compareTo(this.minimum) >= 0) {
+                        gap = DateTimePeriod.make(this.reach, gapEnd, precision);
+                    }
+                }
+
+                if (this.end == null || period.end().isAfter(this.end)) {
+                    this.end = period.end();
+                    this.reach = this.end.plus(precision.interval());
+                }
+
+                if (gap != null) {
+                    return gap;
+                }
+            }
+            return null;
+        }
+    }
+}
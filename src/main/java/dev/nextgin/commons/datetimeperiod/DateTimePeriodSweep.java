@@ -0,0 +1,377 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sort-and-sweep kernels shared by the collection operations.
+ * <p>
+ * Every kernel expects its input sorted by start (see {@link #sorted(List)}) and walks it once, so
+ * the overall cost of an operation is dominated by the sort: O(n log n), or O(n) when the input is
+ * already ordered.
+ */
+final class DateTimePeriodSweep {
+
+    static final Comparator<DateTimePeriod> BY_START = Comparator.comparing(DateTimePeriod::start);
+
+    /**
+     * Number of periods below which the parallel kernels fall back to the sequential ones. It is
+     * also the size of the chunks coalesced by a single fork/join task.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private DateTimePeriodSweep() {}
+
+    /**
+     * Returns the given periods ordered by start. The input list is returned as-is when it is
+     * already sorted, otherwise a sorted copy is returned; the input is never modified.
+     *
+     * @param periods the periods to order
+     * @return the periods ordered by start
+     */
+    static List<DateTimePeriod> sorted(List<DateTimePeriod> periods) {
+        if (isSorted(periods)) {
+            return periods;
+        }
+
+        ArrayList<DateTimePeriod> sorted = new ArrayList<>(periods);
+        sorted.sort(BY_START);
+        return sorted;
+    }
+
+    /**
+     * Checks whether the given periods are ordered by start.
+     *
+     * @param periods the periods to check
+     * @return true if every period starts at or after its predecessor
+     */
+    static boolean isSorted(List<DateTimePeriod> periods) {
+        for (int i = 1; i < periods.size(); i++) {
+            if (periods.get(i).start().isBefore(periods.get(i - 1).start())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges the overlapping or touching periods of a list sorted by start.
+     *
+     * @param sorted the periods, sorted by start
+     * @return the non-overlapping, non-touching periods covering the same time, sorted by start
+     * @throws DateTimePeriodException if precision does not match
+     */
+    static ArrayList<DateTimePeriod> union(List<DateTimePeriod> sorted) {
+        ArrayList<DateTimePeriod> union = new ArrayList<>();
+        if (sorted.isEmpty()) {
+            return union;
+        }
+
+        Precision precision = sorted.get(0).precision();
+        DateTimePeriod current = sorted.get(0);
+        LocalDateTime start = current.start();
+        LocalDateTime end = current.end();
+        LocalDateTime reach = end.plus(precision.interval());
+
+        for (int i = 1; i < sorted.size(); i++) {
+            DateTimePeriod period = sorted.get(i);
+            ensurePrecisionMatches(precision, period);
+
+            if (period.start().isAfter(reach)) {
+                union.add(current != null ? current : DateTimePeriod.make(start, end, precision));
+                current = period;
+                start = period.start();
+                end = period.end();
+                reach = end.plus(precision.interval());
+                continue;
+            }
+
+            // The run only outgrows its first period when it is extended; otherwise that period
+            // is reused as the merged result.
+            if (period.end().isAfter(end)) {
+                end = period.end();
+                reach = end.plus(precision.interval());
+                current = null;
+            }
+        }
+
+        union.add(current != null ? current : DateTimePeriod.make(start, end, precision));
+        return union;
+    }
+
+    /**
+     * Merges the overlapping or touching periods of the given list on the fork/join pool. The
+     * periods are sorted in parallel when needed, then the sorted array is halved until chunks hold
+     * at most {@code threshold} periods; each chunk is merged with {@link #union(List)} and
+     * neighbouring chunks are stitched back together. Lists of at most {@code threshold} periods are
+     * merged sequentially.
+     * <p>
+     * The tasks run in the pool of the calling task, or in the common pool when called from outside
+     * of a pool.
+     *
+     * @param periods   the periods, in any order
+     * @param threshold the maximum number of periods merged by a single task
+     * @return the non-overlapping, non-touching periods covering the same time, sorted by start
+     * @throws DateTimePeriodException if precision does not match
+     */
+    static ArrayList<DateTimePeriod> parallelUnion(List<DateTimePeriod> periods, int threshold) {
+        if (periods.size() <= threshold) {
+            return union(sorted(periods));
+        }
+
+        DateTimePeriod[] sorted = periods.toArray(new DateTimePeriod[0]);
+        if (!isSorted(periods)) {
+            Arrays.parallelSort(sorted, BY_START);
+        }
+        return new UnionTask(sorted, 0, sorted.length, threshold).invoke();
+    }
+
+    /**
+     * Appends a normalized list to another one whose periods all start before it, merging the
+     * periods of the right list that overlap or touch the last period of the left list.
+     *
+     * @param left  the first normalized periods, appended to
+     * @param right the following normalized periods
+     * @return the left list, holding the union of both lists
+     * @throws DateTimePeriodException if precision does not match
+     */
+    static ArrayList<DateTimePeriod> stitch(ArrayList<DateTimePeriod> left, List<DateTimePeriod> right) {
+        if (left.isEmpty()) {
+            left.addAll(right);
+            return left;
+        }
+
+        if (right.isEmpty()) {
+            return left;
+        }
+
+        DateTimePeriod last = left.get(left.size() - 1);
+        Precision precision = last.precision();
+        ensurePrecisionMatches(precision, right.get(0));
+
+        LocalDateTime end = last.end();
+        LocalDateTime reach = end.plus(precision.interval());
+        int absorbed = 0;
+        while (absorbed < right.size() && !right.get(absorbed).start().isAfter(reach)) {
+            if (right.get(absorbed).end().isAfter(end)) {
+                end = right.get(absorbed).end();
+                reach = end.plus(precision.interval());
+            }
+            absorbed++;
+        }
+
+        if (end.isAfter(last.end())) {
+            left.set(left.size() - 1, DateTimePeriod.make(last.start(), end, precision));
+        }
+        left.addAll(right.subList(absorbed, right.size()));
+        return left;
+    }
+
+    /**
+     * Collects the holes between the periods of a list sorted by start. Each hole spans from one
+     * precision interval after the end of the covered time to one precision interval before the
+     * start of the next period.
+     *
+     * @param sorted  the periods, sorted by start
+     * @param minimum the minimum duration a hole must have to be collected
+     * @return the holes, sorted by start
+     * @throws DateTimePeriodException if precision does not match
+     */
+    static ArrayList<DateTimePeriod> gaps(List<DateTimePeriod> sorted, Duration minimum) {
+        ArrayList<DateTimePeriod> gaps = new ArrayList<>();
+        if (sorted.isEmpty()) {
+            return gaps;
+        }
+
+        Precision precision = sorted.get(0).precision();
+        LocalDateTime end = sorted.get(0).end();
+        LocalDateTime reach = end.plus(precision.interval());
+
+        for (int i = 1; i < sorted.size(); i++) {
+            DateTimePeriod period = sorted.get(i);
+            ensurePrecisionMatches(precision, period);
+
+            if (period.start().isAfter(reach)) {
+                LocalDateTime gapEnd = period.start().minus(precision.interval());
+                if (Duration.between(reach, gapEnd).compareTo(minimum) >= 0) {
+                    gaps.add(DateTimePeriod.make(reach, gapEnd, precision));
+                }
+            }
+
+            if (period.end().isAfter(end)) {
+                end = period.end();
+                reach = end.plus(precision.interval());
+            }
+        }
+
+        return gaps;
+    }
+
+    /**
+     * Subtracts a normalized list of holes from each of the given periods. The periods are visited in
+     * their own order; while their starts do not decrease, a single cursor moves forward through the
+     * holes, otherwise it is repositioned with a binary search.
+     *
+     * @param periods the periods to subtract from, in any order
+     * @param holes   the periods to subtract, sorted by start, non-overlapping and non-touching
+     * @return the remaining periods, grouped by the period they were cut from
+     * @throws DateTimePeriodException if precision does not match
+     */
+    static ArrayList<DateTimePeriod> subtract(List<DateTimePeriod> periods, List<DateTimePeriod> holes) {
+        if (holes.isEmpty()) {
+            return new ArrayList<>(periods);
+        }
+
+        ArrayList<DateTimePeriod> remaining = new ArrayList<>(periods.size());
+        Precision precision = holes.get(0).precision();
+        LocalDateTime previousStart = null;
+        int cursor = 0;
+
+        for (DateTimePeriod period : periods) {
+            ensurePrecisionMatches(precision, period);
+
+            if (previousStart != null && period.start().isBefore(previousStart)) {
+                cursor = firstEndingAtOrAfter(holes, period.start());
+            } else {
+                while (cursor < holes.size() && holes.get(cursor).end().isBefore(period.start())) {
+                    cursor++;
+                }
+            }
+            previousStart = period.start();
+
+            LocalDateTime start = period.start();
+            boolean cut = false;
+            for (int i = cursor; i < holes.size(); i++) {
+                DateTimePeriod hole = holes.get(i);
+                if (hole.start().isAfter(period.end())) {
+                    break;
+                }
+
+                if (hole.start().isAfter(start)) {
+                    remaining.add(DateTimePeriod.make(start, hole.start().minus(precision.interval()), precision));
+                }
+                start = hole.end().plus(precision.interval());
+                cut = true;
+            }
+
+            if (!cut) {
+                remaining.add(period);
+            } else if (!start.isAfter(period.end())) {
+                remaining.add(DateTimePeriod.make(start, period.end(), precision));
+            }
+        }
+
+        return remaining;
+    }
+
+    /**
+     * Intersects normalized lists in a single k-way sweep. At each step the overlap of the current
+     * period of every list is emitted if not empty, then the list whose current period ends first
+     * moves forward; no intermediate result is built.
+     *
+     * @param normalized the lists to intersect, each sorted by start, non-overlapping and
+     *                   non-touching
+     * @return the time covered by every list, sorted by start
+     * @throws DateTimePeriodException if precision does not match
+     */
+    static ArrayList<DateTimePeriod> intersect(List<List<DateTimePeriod>> normalized) {
+        ArrayList<DateTimePeriod> intersection = new ArrayList<>();
+        for (List<DateTimePeriod> periods : normalized) {
+            if (periods.isEmpty()) {
+                return intersection;
+            }
+        }
+
+        Precision precision = normalized.get(0).get(0).precision();
+        for (List<DateTimePeriod> periods : normalized) {
+            ensurePrecisionMatches(precision, periods.get(0));
+        }
+
+        int[] cursors = new int[normalized.size()];
+        while (true) {
+            LocalDateTime start = null;
+            DateTimePeriod first = null;
+            int firstIndex = -1;
+            for (int i = 0; i < cursors.length; i++) {
+                DateTimePeriod period = normalized.get(i).get(cursors[i]);
+                if (start == null || period.start().isAfter(start)) {
+                    start = period.start();
+                }
+                if (first == null || period.end().isBefore(first.end())) {
+                    first = period;
+                    firstIndex = i;
+                }
+            }
+
+            if (!start.isAfter(first.end())) {
+                intersection.add(
+                        first.start().equals(start) ? first : DateTimePeriod.make(start, first.end(), precision));
+            }
+
+            if (++cursors[firstIndex] == normalized.get(firstIndex).size()) {
+                return intersection;
+            }
+        }
+    }
+
+    private static int firstEndingAtOrAfter(List<DateTimePeriod> holes, LocalDateTime dateTime) {
+        int low = 0;
+        int high = holes.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (holes.get(middle).end().isBefore(dateTime)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    static void ensurePrecisionMatches(Precision precision, DateTimePeriod period) {
+        if (precision == period.precision()) {
+            return;
+        }
+
+        throw DateTimePeriodException.precisionDoesNotMatch();
+    }
+
+    /**
+     * Merges a range of an array sorted by start, splitting it in halves until it is small enough
+     * to be merged sequentially.
+     */
+    private static final class UnionTask extends RecursiveTask<ArrayList<DateTimePeriod>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DateTimePeriod[] sorted;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private UnionTask(DateTimePeriod[] sorted, int from, int to, int threshold) {
+            this.sorted = sorted;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected ArrayList<DateTimePeriod> compute() {
+            if (to - from <= threshold) {
+                return union(Arrays.asList(sorted).subList(from, to));
+            }
+
+            int middle = (from + to) >>> 1;
+            UnionTask left = new UnionTask(sorted, from, middle, threshold);
+            left.fork();
+            ArrayList<DateTimePeriod> right = new UnionTask(sorted, middle, to, threshold).compute();
+            return stitch(left.join(), right);
+        }
+    }
+}
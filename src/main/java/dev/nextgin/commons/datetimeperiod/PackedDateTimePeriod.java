@@ -0,0 +1,306 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A compact counterpart of {@link DateTimePeriod} storing its start and end as
+ * {@link Precision#toEpochUnits(LocalDateTime) epoch units} of its precision, in two primitive
+ * longs.
+ * <p>
+ * Because consecutive units are exactly one precision interval apart, every comparison is plain
+ * long arithmetic: two periods touch when one starts at the unit following the end of the other.
+ * This class offers the same operations as {@link DateTimePeriod} without allocating any
+ * {@link LocalDateTime}, and converts to and from it at the boundaries of the hot path.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class PackedDateTimePeriod implements Comparable<PackedDateTimePeriod> {
+
+    private final long start;
+    private final long end;
+    private final Precision precision;
+
+    private PackedDateTimePeriod(long start, long end, Precision precision) {
+        if (start > end) {
+            throw DateTimePeriodException.endBeforeStart(
+                    precision.fromEpochUnits(start), precision.fromEpochUnits(end));
+        }
+
+        this.start = start;
+        this.end = end;
+        this.precision = precision;
+    }
+
+    /**
+     * Creates a packed period from epoch units of the given precision.
+     *
+     * @param start     The first unit of the period.
+     * @param end       The last unit of the period, inclusive.
+     * @param precision The precision the units are expressed in.
+     * @return A new packed period between start and end
+     * @throws DateTimePeriodException if end is before start
+     */
+    public static PackedDateTimePeriod of(long start, long end, Precision precision) {
+        return new PackedDateTimePeriod(start, end, precision);
+    }
+
+    /**
+     * Creates a packed period holding the same time as the given period.
+     *
+     * @param period The period to pack.
+     * @return A new packed period with the same start, end and precision
+     */
+    public static PackedDateTimePeriod of(DateTimePeriod period) {
+        Precision precision = period.precision();
+        return new PackedDateTimePeriod(
+                precision.toEpochUnits(period.start()), precision.toEpochUnits(period.end()), precision);
+    }
+
+    /**
+     * Creates a packed period between two date/time points, rounded to the given precision.
+     *
+     * @param start     The starting date and time of the period.
+     * @param end       The ending date and time of the period.
+     * @param precision The precision level for the period calculation.
+     * @return A new packed period between start and end
+     * @see DateTimePeriod#make(LocalDateTime, LocalDateTime, Precision)
+     */
+    public static PackedDateTimePeriod make(LocalDateTime start, LocalDateTime end, Precision precision) {
+        return new PackedDateTimePeriod(precision.toEpochUnits(start), precision.toEpochUnits(end), precision);
+    }
+
+    /**
+     * Converts this packed period back to a {@link DateTimePeriod}.
+     *
+     * @return A new period with the same start, end and precision
+     */
+    public DateTimePeriod toDateTimePeriod() {
+        return DateTimePeriod.make(precision.fromEpochUnits(start), precision.fromEpochUnits(end), precision);
+    }
+
+    /**
+     * Checks if this period overlaps with the given period.
+     *
+     * @param period The period to check for overlap
+     * @return true if this period overlaps with the given period, false otherwise
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriod#overlapsWith(DateTimePeriod)
+     */
+    public boolean overlapsWith(PackedDateTimePeriod period) {
+        this.ensurePrecisionMatches(period);
+        return this.start <= period.end && period.start <= this.end;
+    }
+
+    /**
+     * Checks if this period touches with the given period, i.e. one of them starts one precision
+     * interval after the end of the other.
+     *
+     * @param period The period to check for touching
+     * @return true if this period touches the specified period without overlapping, false otherwise
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriod#touchesWith(DateTimePeriod)
+     */
+    public boolean touchesWith(PackedDateTimePeriod period) {
+        this.ensurePrecisionMatches(period);
+        return this.end + 1 == period.start || period.end + 1 == this.start;
+    }
+
+    /**
+     * Calculates the gap between this period and the specified period.
+     *
+     * @param period The period to calculate the gap with
+     * @return A new period representing the gap between the two periods, or null if the periods
+     * overlap or touch
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriod#gap(DateTimePeriod)
+     */
+    @Nullable public PackedDateTimePeriod gap(PackedDateTimePeriod period) {
+        this.ensurePrecisionMatches(period);
+
+        if (this.end + 1 < period.start) {
+            return new PackedDateTimePeriod(this.end + 1, period.start - 1, precision);
+        }
+
+        if (period.end + 1 < this.start) {
+            return new PackedDateTimePeriod(period.end + 1, this.start - 1, precision);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns a period that overlap with the given period and this period.
+     *
+     * @param period to check for overlap
+     * @return A new period representing the overlapping time, or null if there's no overlap
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriod#overlap(DateTimePeriod)
+     */
+    @Nullable public PackedDateTimePeriod overlap(PackedDateTimePeriod period) {
+        this.ensurePrecisionMatches(period);
+
+        long start = Math.max(this.start, period.start);
+        long end = Math.min(this.end, period.end);
+        if (start > end) {
+            return null;
+        }
+
+        return new PackedDateTimePeriod(start, end, precision);
+    }
+
+    /**
+     * Subtracts the given period from this period.
+     *
+     * @param period to be subtracted from this period
+     * @return An immutable list of zero to two periods remaining after subtraction, ordered by start
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriod#subtract(DateTimePeriod)
+     */
+    public List<PackedDateTimePeriod> subtract(PackedDateTimePeriod period) {
+        if (!this.overlapsWith(period)) {
+            return List.of(this);
+        }
+
+        boolean head = this.start < period.start;
+        boolean tail = this.end > period.end;
+        if (head && tail) {
+            return List.of(
+                    new PackedDateTimePeriod(this.start, period.start - 1, precision),
+                    new PackedDateTimePeriod(period.end + 1, this.end, precision));
+        }
+
+        if (head) {
+            return List.of(new PackedDateTimePeriod(this.start, period.start - 1, precision));
+        }
+
+        if (tail) {
+            return List.of(new PackedDateTimePeriod(period.end + 1, this.end, precision));
+        }
+
+        return List.of();
+    }
+
+    /**
+     * Checks if this period contains the specified point in time.
+     *
+     * @param localDateTime The LocalDateTime to check
+     * @return true if the specified time is within this period, false otherwise
+     * @see DateTimePeriod#contains(LocalDateTime)
+     */
+    public boolean contains(LocalDateTime localDateTime) {
+        return this.contains(precision.toEpochUnits(localDateTime));
+    }
+
+    /**
+     * Checks if this period contains the specified epoch unit of its precision.
+     *
+     * @param units The epoch unit to check
+     * @return true if the specified unit is within this period, false otherwise
+     */
+    public boolean contains(long units) {
+        return this.start <= units && units <= this.end;
+    }
+
+    /**
+     * Checks if this period fully contains the given period. When the precisions differ, the
+     * rounded start and end date/times are compared instead of the epoch units.
+     *
+     * @param period The period to check
+     * @return true if the specified period is entirely contained within this period, false
+     * otherwise
+     * @see DateTimePeriod#contains(DateTimePeriod)
+     */
+    public boolean contains(PackedDateTimePeriod period) {
+        if (this.precision == period.precision) {
+            return this.start <= period.start && period.end <= this.end;
+        }
+
+        return !precision.fromEpochUnits(this.start).isAfter(period.precision.fromEpochUnits(period.start))
+                && !precision.fromEpochUnits(this.end).isBefore(period.precision.fromEpochUnits(period.end));
+    }
+
+    /**
+     * Returns the first epoch unit of this period.
+     *
+     * @return the start of this period, in epoch units of its precision
+     */
+    public long start() {
+        return start;
+    }
+
+    /**
+     * Returns the last epoch unit of this period, inclusive.
+     *
+     * @return the end of this period, in epoch units of its precision
+     */
+    public long end() {
+        return end;
+    }
+
+    /**
+     * Returns the precision level at which this period operates.
+     *
+     * @return the Precision enum value representing this period's precision level
+     * @see Precision
+     */
+    public Precision precision() {
+        return precision;
+    }
+
+    private void ensurePrecisionMatches(PackedDateTimePeriod period) {
+        if (this.precision == period.precision) {
+            return;
+        }
+
+        throw DateTimePeriodException.precisionDoesNotMatch();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s, %s]", precision.fromEpochUnits(start), precision.fromEpochUnits(end));
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        PackedDateTimePeriod period = (PackedDateTimePeriod) object;
+        return start == period.start && end == period.end && precision == period.precision;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(start);
+        result = 31 * result + Long.hashCode(end);
+        return 31 * result + precision.ordinal();
+    }
+
+    /**
+     * Orders periods by start, then by end, then by precision. Periods of different precisions are
+     * compared by their rounded date/times, consistently with {@link DateTimePeriod#compareTo}.
+     */
+    @Override
+    public int compareTo(PackedDateTimePeriod period) {
+        if (this.precision == period.precision) {
+            int compare = Long.compare(this.start, period.start);
+            return compare != 0 ? compare : Long.compare(this.end, period.end);
+        }
+
+        int compare = precision.fromEpochUnits(this.start).compareTo(period.precision.fromEpochUnits(period.start));
+        if (compare == 0) {
+            compare = precision.fromEpochUnits(this.end).compareTo(period.precision.fromEpochUnits(period.end));
+        }
+        if (compare == 0) {
+            compare = Integer.compare(this.precision.ordinal(), period.precision.ordinal());
+        }
+        return Integer.signum(compare);
+    }
+}
@@ -0,0 +1,477 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A columnar collection of periods sharing a single {@link Precision}. Starts and ends are stored
+ * as {@link Precision#toEpochUnits(java.time.LocalDateTime) epoch units} in two parallel
+ * {@code long[]} arrays, and {@link DateTimePeriod} objects are only materialised on iteration.
+ * <p>
+ * It offers the operations of {@link DateTimePeriodCollection} with the same semantics, computed
+ * directly on the primitive arrays.
+ *
+ * @see DateTimePeriodCollection
+ * @see PackedDateTimePeriod
+ */
+public final class PackedDateTimePeriodCollection extends AbstractCollection<DateTimePeriod> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final Precision precision;
+    private long[] starts;
+    private long[] ends;
+    private int size;
+
+    private PackedDateTimePeriodCollection(Precision precision, long[] starts, long[] ends, int size) {
+        this.precision = precision;
+        this.starts = starts;
+        this.ends = ends;
+        this.size = size;
+    }
+
+    /**
+     * Creates an empty collection for periods of the given precision.
+     *
+     * @param precision The precision shared by all the periods of the collection.
+     * @return A new, empty collection
+     */
+    public static PackedDateTimePeriodCollection empty(Precision precision) {
+        return new PackedDateTimePeriodCollection(precision, new long[DEFAULT_CAPACITY], new long[DEFAULT_CAPACITY], 0);
+    }
+
+    /**
+     * Creates a new collection from the given periods.
+     *
+     * @param precision The precision shared by all the periods of the collection.
+     * @param periods   to be included in the new collection
+     * @return A new collection containing all the given periods
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static PackedDateTimePeriodCollection of(Precision precision, DateTimePeriod... periods) {
+        return of(precision, Arrays.asList(periods));
+    }
+
+    /**
+     * Creates a new collection from the given Collection of periods.
+     *
+     * @param precision The precision shared by all the periods of the collection.
+     * @param periods   A Collection of periods to be included in the new collection
+     * @return A new collection containing all the periods from the input collection
+     * @throws DateTimePeriodException if precision does not match
+     */
+    public static PackedDateTimePeriodCollection of(Precision precision, Collection<DateTimePeriod> periods) {
+        int capacity = Math.max(periods.size(), DEFAULT_CAPACITY);
+        PackedDateTimePeriodCollection collection =
+                new PackedDateTimePeriodCollection(precision, new long[capacity], new long[capacity], 0);
+        for (DateTimePeriod period : periods) {
+            collection.add(period);
+        }
+        return collection;
+    }
+
+    /**
+     * Adds a period given as epoch units of the precision of this collection.
+     *
+     * @param start The first unit of the period.
+     * @param end   The last unit of the period, inclusive.
+     * @throws DateTimePeriodException if end is before start
+     */
+    public void add(long start, long end) {
+        if (start > end) {
+            throw DateTimePeriodException.endBeforeStart(
+                    precision.fromEpochUnits(start), precision.fromEpochUnits(end));
+        }
+
+        this.append(start, end);
+    }
+
+    /**
+     * Adds a period to this collection.
+     *
+     * @param period to be added
+     * @return always true
+     * @throws DateTimePeriodException if precision does not match
+     */
+    @Override
+    public boolean add(DateTimePeriod period) {
+        this.ensurePrecisionMatches(period.precision());
+        this.append(precision.toEpochUnits(period.start()), precision.toEpochUnits(period.end()));
+        return true;
+    }
+
+    /**
+     * Returns the period at the specified position in this collection.
+     *
+     * @param index index of the element to return
+     * @return the period at the specified position in this collection
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public DateTimePeriod get(int index) {
+        return this.materialise(Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Returns the start of the period at the specified position, in epoch units.
+     *
+     * @param index index of the period
+     * @return the first unit of the period
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long start(int index) {
+        return this.starts[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns the end of the period at the specified position, in epoch units.
+     *
+     * @param index index of the period
+     * @return the last unit of the period, inclusive
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long end(int index) {
+        return this.ends[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns the precision shared by the periods of this collection.
+     *
+     * @return the precision of this collection
+     */
+    public Precision precision() {
+        return precision;
+    }
+
+    /**
+     * Calculates the boundary period that encompasses all periods in this collection.
+     *
+     * @return A DateTimePeriod representing the earliest start time and latest end time of all
+     * periods in the collection. If the collection is empty, returns null.
+     */
+    @Nullable public DateTimePeriod boundaries() {
+        if (size == 0) {
+            return null;
+        }
+
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            start = Math.min(start, starts[i]);
+            end = Math.max(end, ends[i]);
+        }
+        return DateTimePeriod.make(precision.fromEpochUnits(start), precision.fromEpochUnits(end), precision);
+    }
+
+    /**
+     * Calculates the union of all periods in this collection.
+     * <p>
+     * Starts and ends are sorted independently: once both are sorted, the covered time is
+     * interrupted exactly where the next start lies more than one unit after the current end.
+     *
+     * @return A new collection containing non-overlapping periods that represent the union of all
+     * periods in this collection, ordered by start. Overlapping or adjacent periods are merged into
+     * single periods.
+     * @see DateTimePeriodCollection#union()
+     */
+    public PackedDateTimePeriodCollection union() {
+        long[] sortedStarts = Arrays.copyOf(starts, size);
+        long[] sortedEnds = Arrays.copyOf(ends, size);
+        Arrays.sort(sortedStarts);
+        Arrays.sort(sortedEnds);
+
+        PackedDateTimePeriodCollection union = empty(precision);
+        for (int i = 0, first = 0; i < size; i++) {
+            if (i == size - 1 || sortedStarts[i + 1] > sortedEnds[i] + 1) {
+                union.append(sortedStarts[first], sortedEnds[i]);
+                first = i + 1;
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Calculates the gaps between the periods in this collection.
+     *
+     * @return A new collection containing periods that represent the time gaps between the periods
+     * in this collection, ordered by start.
+     * @see DateTimePeriodCollection#gaps()
+     */
+    public PackedDateTimePeriodCollection gaps() {
+        return this.gaps(Duration.ZERO);
+    }
+
+    /**
+     * Calculates the gaps between the periods in this collection, skipping the gaps shorter than the
+     * given duration.
+     *
+     * @param minimum The minimum {@link DateTimePeriod#duration() duration} of a gap to be included
+     * @return A new collection containing periods that represent the time gaps of at least the given
+     * duration between the periods in this collection, ordered by start.
+     * @see DateTimePeriodCollection#gaps(Duration)
+     */
+    public PackedDateTimePeriodCollection gaps(Duration minimum) {
+        PackedDateTimePeriodCollection union = this.union();
+        PackedDateTimePeriodCollection gaps = empty(precision);
+        for (int i = 1; i < union.size; i++) {
+            long start = union.ends[i - 1] + 1;
+            long end = union.starts[i] - 1;
+            if (minimum.isZero()
+                    || Duration.between(precision.fromEpochUnits(start), precision.fromEpochUnits(end))
+                                    .compareTo(minimum)
+                            >= 0) {
+                gaps.append(start, end);
+            }
+        }
+        return gaps;
+    }
+
+    /**
+     * Subtracts the specified collection from this collection.
+     *
+     * @param collection to be subtracted from this collection
+     * @return A new collection containing the remaining periods after subtraction, grouped by the
+     * period of this collection they were cut from
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriodCollection#subtract(DateTimePeriodCollection)
+     */
+    public PackedDateTimePeriodCollection subtract(PackedDateTimePeriodCollection collection) {
+        this.ensurePrecisionMatches(collection.precision);
+
+        PackedDateTimePeriodCollection holes = collection.union();
+        PackedDateTimePeriodCollection remaining = empty(precision);
+        int cursor = 0;
+
+        for (int i = 0; i < size; i++) {
+            long start = starts[i];
+            long end = ends[i];
+
+            if (i > 0 && start < starts[i - 1]) {
+                cursor = holes.firstEndingAtOrAfter(start);
+            } else {
+                while (cursor < holes.size && holes.ends[cursor] < start) {
+                    cursor++;
+                }
+            }
+
+            for (int h = cursor; h < holes.size && holes.starts[h] <= end; h++) {
+                if (holes.starts[h] > start) {
+                    remaining.append(start, holes.starts[h] - 1);
+                }
+                start = holes.ends[h] + 1;
+            }
+
+            if (start <= end) {
+                remaining.append(start, end);
+            }
+        }
+
+        return remaining;
+    }
+
+    /**
+     * Calculates the overlap of all periods across the given collections, in a single k-way sweep
+     * over their unions.
+     *
+     * @param collections to be considered for overlap
+     * @return A new collection containing periods that represent the common overlap across all
+     * input collections, merged and ordered by start.
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriodCollection#overlapAll(DateTimePeriodCollection...)
+     */
+    public PackedDateTimePeriodCollection overlapAll(PackedDateTimePeriodCollection... collections) {
+        if (collections.length == 0) {
+            return this;
+        }
+
+        PackedDateTimePeriodCollection[] unions = new PackedDateTimePeriodCollection[collections.length + 1];
+        unions[0] = this.union();
+        for (int i = 0; i < collections.length; i++) {
+            this.ensurePrecisionMatches(collections[i].precision);
+            unions[i + 1] = collections[i].union();
+        }
+
+        PackedDateTimePeriodCollection overlap = empty(precision);
+        for (PackedDateTimePeriodCollection union : unions) {
+            if (union.size == 0) {
+                return overlap;
+            }
+        }
+
+        int[] cursors = new int[unions.length];
+        while (true) {
+            long start = Long.MIN_VALUE;
+            long end = Long.MAX_VALUE;
+            int first = 0;
+            for (int i = 0; i < unions.length; i++) {
+                start = Math.max(start, unions[i].starts[cursors[i]]);
+                if (unions[i].ends[cursors[i]] < end) {
+                    end = unions[i].ends[cursors[i]];
+                    first = i;
+                }
+            }
+
+            if (start <= end) {
+                overlap.append(start, end);
+            }
+
+            if (++cursors[first] == unions[first].size) {
+                return overlap;
+            }
+        }
+    }
+
+    /**
+     * Calculates the intersection of this collection with the given period.
+     *
+     * @param intersection The DateTimePeriod to intersect with this collection
+     * @return A new collection containing the intersection of each period in this collection with
+     * the given period. Periods that don't intersect are excluded from the result.
+     * @throws DateTimePeriodException if precision does not match
+     * @see DateTimePeriodCollection#intersect(DateTimePeriod)
+     */
+    public PackedDateTimePeriodCollection intersect(DateTimePeriod intersection) {
+        this.ensurePrecisionMatches(intersection.precision());
+
+        long start = precision.toEpochUnits(intersection.start());
+        long end = precision.toEpochUnits(intersection.end());
+        PackedDateTimePeriodCollection intersected = empty(precision);
+        for (int i = 0; i < size; i++) {
+            if (starts[i] <= end && start <= ends[i]) {
+                intersected.append(Math.max(start, starts[i]), Math.min(end, ends[i]));
+            }
+        }
+        return intersected;
+    }
+
+    /**
+     * Materialises the periods of this collection.
+     *
+     * @return A new DateTimePeriodCollection containing the periods of this collection, in order
+     */
+    public DateTimePeriodCollection toDateTimePeriodCollection() {
+        DateTimePeriod[] periods = new DateTimePeriod[size];
+        for (int i = 0; i < size; i++) {
+            periods[i] = this.materialise(i);
+        }
+        return DateTimePeriodCollection.of(periods);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        if (!(element instanceof DateTimePeriod period) || period.precision() != precision) {
+            return false;
+        }
+
+        long start = precision.toEpochUnits(period.start());
+        long end = precision.toEpochUnits(period.end());
+        for (int i = 0; i < size; i++) {
+            if (starts[i] == start && ends[i] == end) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        this.size = 0;
+    }
+
+    @Override
+    @Nonnull
+    public Iterator<DateTimePeriod> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private int last = -1;
+            private int expectedSize = size;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public DateTimePeriod next() {
+                if (expectedSize != size) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                last = cursor++;
+                return materialise(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+
+                removeAt(last);
+                cursor = last;
+                last = -1;
+                expectedSize = size;
+            }
+        };
+    }
+
+    private DateTimePeriod materialise(int index) {
+        return DateTimePeriod.make(
+                precision.fromEpochUnits(starts[index]), precision.fromEpochUnits(ends[index]), precision);
+    }
+
+    private void append(long start, long end) {
+        if (size == starts.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(starts, index + 1, starts, index, size - index - 1);
+        System.arraycopy(ends, index + 1, ends, index, size - index - 1);
+        size--;
+    }
+
+    private int firstEndingAtOrAfter(long units) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] < units) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void ensurePrecisionMatches(Precision precision) {
+        if (this.precision == precision) {
+            return;
+        }
+
+        throw DateTimePeriodException.precisionDoesNotMatch();
+    }
+}
@@ -1,9 +1,13 @@
 package dev.nextgin.commons.datetimeperiod;
 
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.Period;
+import java.time.Year;
+import java.time.ZoneOffset;
 import java.time.temporal.TemporalAmount;
 
 /**
@@ -19,43 +23,49 @@ public enum Precision {
      * Year precision, with an interval of one year. Periods with this precision will
      * ignore units smaller than years in all operations.
      */
-    YEAR(Period.ofYears(1)),
+    YEAR(Period.ofYears(1), 0),
 
     /**
      * Day precision, with an interval of one month. Periods with this precision will ignore units
      * smaller than days in all operations.
      */
-    MONTH(Period.ofMonths(1)),
+    MONTH(Period.ofMonths(1), 0),
 
     /**
      * Day precision, with an interval of one day. Periods with this precision will
      * ignore units smaller than days in all operations.
      */
-    DAY(Period.ofDays(1)),
+    DAY(Period.ofDays(1), 86_400),
 
     /**
      * Hour precision, with an interval of one hour. Periods with this precision will ignore units
      * smaller than hours in all operations.
      */
-    HOUR(Duration.ofHours(1)),
+    HOUR(Duration.ofHours(1), 3_600),
 
     /**
      * Minute precision, with an interval of one minute. Periods with this precision will ignore
      * units smaller than minutes in all operations.
      */
-    MINUTE(Duration.ofMinutes(1)),
+    MINUTE(Duration.ofMinutes(1), 60),
 
     /**
      * Second precision, with an interval of one second. Periods with this precision will ignore
      * units smaller than seconds (such as milliseconds) in all operations.
      */
-    SECOND(Duration.ofSeconds(1)),
+    SECOND(Duration.ofSeconds(1), 1),
     ;
 
     private final TemporalAmount interval;
 
-    Precision(TemporalAmount interval) {
+    /**
+     * Length of the interval in seconds, or 0 when it varies (months and years).
+     */
+    private final int seconds;
+
+    Precision(TemporalAmount interval, int seconds) {
         this.interval = interval;
+        this.seconds = seconds;
     }
 
     /**
@@ -66,22 +76,141 @@ public enum Precision {
      * Precision.DAY.round(dt)    // returns 2024-03-15T00:00
      * Precision.MONTH.round(dt)  // returns 2024-03-01T00:00
      * </pre>
+     * When the given LocalDateTime is already aligned to this precision, it is returned as-is.
      *
      * @param dt The LocalDateTime to round.
-     * @return A new LocalDateTime rounded to the specified precision
+     * @return A LocalDateTime rounded to the specified precision
      */
     public LocalDateTime round(LocalDateTime dt) {
-        final LocalDate date = dt.toLocalDate();
+        final LocalTime time = dt.toLocalTime();
         return switch (this) {
-            case YEAR -> LocalDateTime.of(dt.getYear(), 1, 1, 0, 0);
-            case MONTH -> LocalDateTime.of(dt.getYear(), dt.getMonth(), 1, 0, 0);
-            case DAY -> date.atStartOfDay();
-            case HOUR -> date.atTime(dt.getHour(), 0);
-            case MINUTE -> date.atTime(dt.getHour(), dt.getMinute());
-            case SECOND -> date.atTime(dt.toLocalTime().withNano(0));
+            case YEAR -> dt.getDayOfYear() == 1 && time.toNanoOfDay() == 0
+                    ? dt
+                    : LocalDateTime.of(dt.getYear(), 1, 1, 0, 0);
+            case MONTH -> dt.getDayOfMonth() == 1 && time.toNanoOfDay() == 0
+                    ? dt
+                    : LocalDateTime.of(dt.getYear(), dt.getMonth(), 1, 0, 0);
+            case DAY, HOUR, MINUTE, SECOND -> {
+                int secondOfDay = time.toSecondOfDay();
+                int aligned = secondOfDay - secondOfDay % seconds;
+                if (aligned == secondOfDay && time.getNano() == 0) {
+                    yield dt;
+                }
+                yield LocalDateTime.of(dt.toLocalDate(), LocalTime.ofSecondOfDay(aligned));
+            }
         };
     }
 
+    /**
+     * Rounds every LocalDateTime of the given array to this precision level, in place.
+     *
+     * @param values The LocalDateTime values to round.
+     * @return the given array, holding the rounded values
+     * @see #round(LocalDateTime)
+     */
+    public LocalDateTime[] round(LocalDateTime[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.round(values[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Rounds every second of the given array to this precision level, in place. The values are
+     * seconds elapsed since 1970-01-01T00:00, as returned by
+     * {@link LocalDateTime#toEpochSecond(ZoneOffset)} with {@link ZoneOffset#UTC}.
+     * <p>
+     * Days, hours, minutes and seconds are rounded with plain arithmetic. Months and years are
+     * resolved through the calendar once per distinct month or year in a row, which makes sorted
+     * input cheap.
+     *
+     * @param epochSeconds The seconds to round.
+     * @return the given array, holding the rounded values
+     */
+    public long[] round(long[] epochSeconds) {
+        if (seconds > 0) {
+            for (int i = 0; i < epochSeconds.length; i++) {
+                epochSeconds[i] -= Math.floorMod(epochSeconds[i], seconds);
+            }
+            return epochSeconds;
+        }
+
+        long rangeStart = 0;
+        long rangeEnd = 0;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            if (epochSeconds[i] < rangeStart || epochSeconds[i] >= rangeEnd) {
+                LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(epochSeconds[i], 86_400));
+                LocalDate first = this == YEAR ? date.withDayOfYear(1) : date.withDayOfMonth(1);
+                rangeStart = first.toEpochDay() * 86_400;
+                rangeEnd = first.plus(interval).toEpochDay() * 86_400;
+            }
+            epochSeconds[i] = rangeStart;
+        }
+        return epochSeconds;
+    }
+
+    /**
+     * Converts a LocalDateTime to the number of intervals of this precision elapsed since
+     * 1970-01-01T00:00, truncating smaller units. Consecutive values are exactly one
+     * {@link #interval()} apart, for example:
+     * <pre>
+     * LocalDateTime dt = LocalDateTime.parse("1970-03-02T14:30:45");
+     * Precision.MONTH.toEpochUnits(dt)  // returns 2
+     * Precision.DAY.toEpochUnits(dt)    // returns 60
+     * Precision.HOUR.toEpochUnits(dt)   // returns 1454
+     * </pre>
+     *
+     * @param dt The LocalDateTime to convert.
+     * @return the number of intervals elapsed since the epoch, negative before the epoch
+     * @see #fromEpochUnits(long)
+     */
+    public long toEpochUnits(LocalDateTime dt) {
+        return switch (this) {
+            case YEAR -> dt.getYear() - 1970L;
+            case MONTH -> (dt.getYear() - 1970L) * 12 + dt.getMonthValue() - 1;
+            case DAY -> dt.toLocalDate().toEpochDay();
+            case HOUR -> dt.toLocalDate().toEpochDay() * 24 + dt.getHour();
+            case MINUTE -> dt.toLocalDate().toEpochDay() * 1440 + dt.getHour() * 60 + dt.getMinute();
+            case SECOND -> dt.toLocalDate().toEpochDay() * 86400
+                    + dt.toLocalTime().toSecondOfDay();
+        };
+    }
+
+    /**
+     * Converts a number of intervals of this precision elapsed since 1970-01-01T00:00 back to a
+     * LocalDateTime. This is the inverse of {@link #toEpochUnits(LocalDateTime)}, the result is
+     * always rounded to this precision.
+     *
+     * @param units The number of intervals elapsed since the epoch.
+     * @return the LocalDateTime at the start of the given interval
+     * @throws java.time.DateTimeException if the result exceeds the supported date range
+     */
+    public LocalDateTime fromEpochUnits(long units) {
+        return switch (this) {
+            case YEAR -> LocalDateTime.of(epochYear(units), 1, 1, 0, 0);
+            case MONTH -> LocalDateTime.of(epochYear(Math.floorDiv(units, 12)), Math.floorMod(units, 12) + 1, 1, 0, 0);
+            case DAY -> LocalDate.ofEpochDay(units).atStartOfDay();
+            case HOUR -> LocalDate.ofEpochDay(Math.floorDiv(units, 24)).atTime(Math.floorMod(units, 24), 0);
+            case MINUTE -> {
+                int minuteOfDay = Math.floorMod(units, 1440);
+                yield LocalDate.ofEpochDay(Math.floorDiv(units, 1440)).atTime(minuteOfDay / 60, minuteOfDay % 60);
+            }
+            case SECOND -> LocalDateTime.ofEpochSecond(units, 0, ZoneOffset.UTC);
+        };
+    }
+
+    /**
+     * Returns the year the given number of years after 1970, checking it is supported before
+     * adding so that out of range values cannot overflow.
+     */
+    private static int epochYear(long years) {
+        if (years < Year.MIN_VALUE - 1970L || years > Year.MAX_VALUE - 1970L) {
+            throw new DateTimeException("Invalid number of years since 1970: " + years);
+        }
+
+        return (int) (1970 + years);
+    }
+
     /**
      * Returns the time interval associated with this precision level.
      *
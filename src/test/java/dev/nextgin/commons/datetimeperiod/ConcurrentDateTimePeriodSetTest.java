@@ -0,0 +1,211 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.hours;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDateTimePeriodSetTest {
+
+    private static ConcurrentDateTimePeriodSet of(DateTimePeriod... periods) {
+        ConcurrentDateTimePeriodSet set = ConcurrentDateTimePeriodSet.empty(Precision.DAY);
+        Collections.addAll(set, periods);
+        return set;
+    }
+
+    @Nested
+    class Add {
+
+        @Test
+        void shouldMergeOverlappingAndTouchingPeriods() {
+            // Given
+            ConcurrentDateTimePeriodSet set = of(days(1, 5), days(10, 12), days(20, 25), days(28, 31));
+
+            // When
+            boolean changed = set.add(days(6, 21));
+
+            // Then
+            assertThat(changed).isTrue();
+            assertThat(set).containsExactly(days(1, 25), days(28, 31));
+        }
+
+        @Test
+        void shouldReturnFalse_whenPeriodIsAlreadyCovered() {
+            // Given
+            ConcurrentDateTimePeriodSet set = of(days(1, 10));
+
+            // Assertions
+            assertThat(set.add(days(3, 10))).isFalse();
+            assertThat(set).containsExactly(days(1, 10));
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            ConcurrentDateTimePeriodSet set = of(days(1, 10));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(() -> set.add(hours(0, 2)));
+        }
+    }
+
+    @Nested
+    class Reserve {
+
+        @Test
+        void shouldAddPeriod_whenItIsFree() {
+            // Given
+            ConcurrentDateTimePeriodSet set = of(days(1, 5), days(10, 12));
+
+            // When
+            boolean reserved = set.reserve(days(6, 9));
+
+            // Then
+            assertThat(reserved).isTrue();
+            assertThat(set).containsExactly(days(1, 12));
+        }
+
+        @Test
+        void shouldReturnFalse_whenPeriodOverlaps() {
+            // Given
+            ConcurrentDateTimePeriodSet set = of(days(1, 5), days(10, 12));
+
+            // When
+            boolean reserved = set.reserve(days(6, 10));
+
+            // Then
+            assertThat(reserved).isFalse();
+            assertThat(set).containsExactly(days(1, 5), days(10, 12));
+        }
+
+        @Test
+        void shouldNeverGrantOverlappingReservations() throws Exception {
+            // Given
+            ConcurrentDateTimePeriodSet set = new ConcurrentDateTimePeriodSet(Precision.HOUR, 8, 4);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // When
+            List<Future<List<DateTimePeriod>>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                Random random = new Random(thread);
+                futures.add(executor.submit(() -> {
+                    List<DateTimePeriod> granted = new ArrayList<>();
+                    for (int i = 0; i < 2_000; i++) {
+                        int start = random.nextInt(5_000);
+                        DateTimePeriod period = hours(start, start + random.nextInt(12));
+                        if (set.reserve(period)) {
+                            granted.add(period);
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            List<DateTimePeriod> granted = new ArrayList<>();
+            for (Future<List<DateTimePeriod>> future : futures) {
+                granted.addAll(future.get());
+            }
+            executor.shutdown();
+
+            // Then
+            granted.sort(DateTimePeriodSweep.BY_START);
+            for (int i = 1; i < granted.size(); i++) {
+                assertThat(granted.get(i).overlapsWith(granted.get(i - 1))).isFalse();
+            }
+            assertThat(set)
+                    .containsExactlyElementsOf(
+                            DateTimePeriodCollection.of(granted).union());
+        }
+    }
+
+    @Nested
+    class Subtract {
+
+        @Test
+        void shouldCutAndRemoveEveryOverlappedPeriod() {
+            // Given
+            ConcurrentDateTimePeriodSet set = of(days(1, 5), days(8, 9), days(12, 20));
+
+            // When
+            boolean changed = set.subtract(days(3, 14));
+
+            // Then
+            assertThat(changed).isTrue();
+            assertThat(set).containsExactly(days(1, 2), days(15, 20));
+        }
+
+        @Test
+        void shouldReturnFalse_whenPeriodDoesNotOverlap() {
+            // Given
+            ConcurrentDateTimePeriodSet set = of(days(1, 5));
+
+            // Assertions
+            assertThat(set.subtract(days(6, 9))).isFalse();
+            assertThat(set).containsExactly(days(1, 5));
+        }
+    }
+
+    @Test
+    void shouldLookupPeriodsWithoutLocking() {
+        // Given
+        ConcurrentDateTimePeriodSet set = of(days(1, 5), days(10, 12));
+
+        // Assertions
+        assertThat(set.covering(day(3).plusHours(12))).isEqualTo(days(1, 5));
+        assertThat(set.covering(day(7))).isNull();
+        assertThat(set.overlaps(days(5, 9))).isTrue();
+        assertThat(set.overlaps(days(6, 9))).isFalse();
+        assertThat(set.contains(days(10, 12))).isTrue();
+        assertThat(set.contains(days(10, 11))).isFalse();
+    }
+
+    @Test
+    void remove_shouldOnlyRemoveStoredPeriods() {
+        // Given
+        ConcurrentDateTimePeriodSet set = of(days(1, 5), days(10, 12));
+
+        // Assertions
+        assertThat(set.remove(days(1, 4))).isFalse();
+        assertThat(set.remove(days(1, 5))).isTrue();
+        assertThat(set).containsExactly(days(10, 12));
+    }
+
+    @Test
+    void shouldMatchCollectionUnion_whenAddedConcurrently() throws Exception {
+        // Given
+        ConcurrentDateTimePeriodSet set = new ConcurrentDateTimePeriodSet(Precision.HOUR, 8, 4);
+        List<DateTimePeriod> periods = new ArrayList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int start = random.nextInt(50_000);
+            periods.add(hours(start, start + random.nextInt(6)));
+        }
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            List<DateTimePeriod> slice = periods.subList(thread * 2_500, (thread + 1) * 2_500);
+            futures.add(executor.submit(() -> slice.forEach(set::add)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(set)
+                .containsExactlyElementsOf(DateTimePeriodCollection.of(periods).union());
+        assertThat(set.union()).containsExactlyElementsOf(set);
+    }
+}
@@ -0,0 +1,167 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.hours;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DateTimePeriodBitmapTest {
+
+    @Nested
+    class Conversion {
+
+        @Test
+        void shouldConvertBackToUnion() {
+            // Given
+            DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                    days(30, 31), days(4, 5), days(7, 9), days(12, 14), days(8, 13), days(1, 2), days(3, 3));
+
+            // When
+            DateTimePeriodBitmap bitmap = DateTimePeriodBitmap.of(Precision.DAY, collection);
+
+            // Then
+            assertThat(bitmap.toDateTimePeriodCollection()).containsExactlyElementsOf(collection.union());
+            assertThat(bitmap.cardinality()).isEqualTo(15);
+        }
+
+        @Test
+        void shouldConvertPeriodsSpanningSeveralChunks() {
+            // Given
+            DateTimePeriodCollection collection =
+                    DateTimePeriodCollection.of(hours(-5, 3), hours(4_000, 20_000), hours(20_002, 20_002));
+
+            // When
+            DateTimePeriodBitmap bitmap = DateTimePeriodBitmap.of(Precision.HOUR, collection);
+
+            // Then
+            assertThat(bitmap.toDateTimePeriodCollection())
+                    .containsExactly(hours(-5, 3), hours(4_000, 20_000), hours(20_002, 20_002));
+            assertThat(bitmap.cardinality()).isEqualTo(9 + 16_001 + 1);
+        }
+
+        @Test
+        void shouldBeEmpty_whenNoPeriodIsGiven() {
+            // When
+            DateTimePeriodBitmap bitmap = DateTimePeriodBitmap.of(Precision.HOUR);
+
+            // Then
+            assertThat(bitmap.isEmpty()).isTrue();
+            assertThat(bitmap.cardinality()).isZero();
+            assertThat(bitmap.toDateTimePeriodCollection()).isEmpty();
+            assertThat(bitmap).isEqualTo(DateTimePeriodBitmap.empty(Precision.HOUR));
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionDoesNotMatch() {
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> DateTimePeriodBitmap.of(Precision.HOUR, days(1, 2)));
+        }
+    }
+
+    @Nested
+    class Algebra {
+
+        @Test
+        void shouldCombineBitmaps() {
+            // Given
+            DateTimePeriodBitmap left = DateTimePeriodBitmap.of(Precision.DAY, days(1, 10), days(20, 25));
+            DateTimePeriodBitmap right = DateTimePeriodBitmap.of(Precision.DAY, days(5, 22));
+
+            // Assertions
+            assertThat(left.or(right).toDateTimePeriodCollection()).containsExactly(days(1, 25));
+            assertThat(left.and(right).toDateTimePeriodCollection()).containsExactly(days(5, 10), days(20, 22));
+            assertThat(left.andNot(right).toDateTimePeriodCollection()).containsExactly(days(1, 4), days(23, 25));
+        }
+
+        @Test
+        void shouldBeEmpty_whenBitmapsDoNotIntersect() {
+            // Given
+            DateTimePeriodBitmap left = DateTimePeriodBitmap.of(Precision.HOUR, hours(0, 10));
+            DateTimePeriodBitmap right = DateTimePeriodBitmap.of(Precision.HOUR, hours(10_000, 10_010));
+
+            // Assertions
+            assertThat(left.and(right).isEmpty()).isTrue();
+            assertThat(left.andNot(left)).isEqualTo(DateTimePeriodBitmap.empty(Precision.HOUR));
+        }
+
+        @Test
+        void shouldMatchUnitByUnitAlgebra() {
+            // Given
+            Random random = new Random(42);
+            for (int round = 0; round < 20; round++) {
+                BitSet leftUnits = new BitSet();
+                BitSet rightUnits = new BitSet();
+                DateTimePeriodBitmap left = DateTimePeriodBitmap.of(Precision.HOUR, randomPeriods(random, leftUnits));
+                DateTimePeriodBitmap right = DateTimePeriodBitmap.of(Precision.HOUR, randomPeriods(random, rightUnits));
+
+                // When
+                BitSet or = (BitSet) leftUnits.clone();
+                or.or(rightUnits);
+                BitSet and = (BitSet) leftUnits.clone();
+                and.and(rightUnits);
+                BitSet andNot = (BitSet) leftUnits.clone();
+                andNot.andNot(rightUnits);
+
+                // Then
+                assertMatches(left.or(right), or);
+                assertMatches(left.and(right), and);
+                assertMatches(left.andNot(right), andNot);
+            }
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            DateTimePeriodBitmap hours = DateTimePeriodBitmap.of(Precision.HOUR, hours(0, 10));
+            DateTimePeriodBitmap days = DateTimePeriodBitmap.of(Precision.DAY, days(1, 2));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(() -> hours.or(days));
+            assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(() -> hours.and(days));
+            assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(() -> hours.andNot(days));
+        }
+
+        private static List<DateTimePeriod> randomPeriods(Random random, BitSet units) {
+            List<DateTimePeriod> periods = new ArrayList<>();
+            for (int i = random.nextInt(50); i > 0; i--) {
+                int start = random.nextInt(16_000);
+                int end = start + (random.nextInt(10) == 0 ? random.nextInt(9_000) : random.nextInt(100));
+                periods.add(hours(start, end));
+                units.set(start, end + 1);
+            }
+            return periods;
+        }
+
+        private static void assertMatches(DateTimePeriodBitmap bitmap, BitSet units) {
+            List<DateTimePeriod> runs = new ArrayList<>();
+            for (int start = units.nextSetBit(0); start >= 0; start = units.nextSetBit(units.nextClearBit(start))) {
+                runs.add(hours(start, units.nextClearBit(start) - 1));
+            }
+            assertThat(bitmap.toDateTimePeriodCollection()).containsExactlyElementsOf(runs);
+            assertThat(bitmap.cardinality()).isEqualTo(units.cardinality());
+            assertThat(bitmap).isEqualTo(DateTimePeriodBitmap.of(Precision.HOUR, runs));
+        }
+    }
+
+    @Test
+    void contains_shouldCheckIfDateTimeIsCovered() {
+        // Given
+        DateTimePeriodBitmap bitmap = DateTimePeriodBitmap.of(Precision.HOUR, hours(10, 20), hours(5_000, 9_000));
+
+        // Assertions
+        assertThat(bitmap.contains(ORIGIN.plusHours(10))).isTrue();
+        assertThat(bitmap.contains(ORIGIN.plusHours(20).plusMinutes(59))).isTrue();
+        assertThat(bitmap.contains(ORIGIN.plusHours(21))).isFalse();
+        assertThat(bitmap.contains(ORIGIN.plusHours(6_000))).isTrue();
+        assertThat(bitmap.contains(ORIGIN.minusYears(10))).isFalse();
+        assertThat(bitmap.contains(ORIGIN.plusYears(10))).isFalse();
+    }
+}
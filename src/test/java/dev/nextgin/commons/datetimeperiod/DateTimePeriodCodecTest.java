@@ -0,0 +1,193 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DateTimePeriodCodecTest {
+
+    private static final DateTimePeriodCollection COLLECTION = DateTimePeriodCollection.of(
+            days(10, 15),
+            days(1, 5),
+            DateTimePeriod.make(LocalDate.of(1960, 2, 29), LocalDate.of(1960, 2, 29)),
+            DateTimePeriod.make(LocalDate.of(2024, 3, 1), LocalDate.of(2025, 3, 1)));
+
+    @Nested
+    class Encode {
+
+        @Test
+        void shouldWriteVersionCountAndPrecision() {
+            // When
+            byte[] result = DateTimePeriodCodec.encode(DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(1970, 1, 2), LocalDate.of(1970, 1, 4))));
+
+            // Then
+            assertThat(result).containsExactly(1, 1, 2, 2, 2);
+        }
+
+        @Test
+        void shouldWriteOnlyVersionAndCount_whenCollectionIsEmpty() {
+            assertThat(DateTimePeriodCodec.encode(DateTimePeriodCollection.empty()))
+                    .containsExactly(1, 0);
+        }
+
+        @Test
+        void shouldBeSmallerThanJavaSerialization() throws IOException {
+            // Given
+            ArrayList<DateTimePeriod> periods = new ArrayList<>();
+            LocalDateTime start = ORIGIN.plusHours(8);
+            for (int i = 0; i < 1_000; i++) {
+                periods.add(DateTimePeriod.make(start, start.plusHours(8), Precision.MINUTE));
+                start = start.plusDays(1);
+            }
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+                out.writeObject(periods);
+            }
+
+            // When
+            byte[] result = DateTimePeriodCodec.encode(periods);
+
+            // Then
+            assertThat(result.length).isLessThan(serialized.size() / 5);
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            DateTimePeriodCollection collection =
+                    DateTimePeriodCollection.of(days(1, 5), DateTimePeriod.make(day(3), day(9)));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> DateTimePeriodCodec.encode(collection));
+        }
+    }
+
+    @Nested
+    class Decode {
+
+        @Test
+        void shouldRoundTripInOriginalOrder() {
+            // When
+            DateTimePeriodCollection result = DateTimePeriodCodec.decode(DateTimePeriodCodec.encode(COLLECTION));
+
+            // Then
+            assertThat(result).containsExactlyElementsOf(COLLECTION);
+        }
+
+        @Test
+        void shouldRoundTripEveryPrecision() {
+            for (Precision precision : Precision.values()) {
+                // Given
+                DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                        DateTimePeriod.make(
+                                LocalDateTime.of(2024, 5, 17, 13, 42, 7),
+                                LocalDateTime.of(2031, 2, 3, 4, 5, 6),
+                                precision),
+                        DateTimePeriod.make(
+                                LocalDateTime.of(1901, 1, 1, 0, 0), LocalDateTime.of(1901, 1, 1, 0, 0), precision));
+
+                // When
+                DateTimePeriodCollection result = DateTimePeriodCodec.decode(DateTimePeriodCodec.encode(collection));
+
+                // Then
+                assertThat(result).containsExactlyElementsOf(collection);
+            }
+        }
+
+        @Test
+        void shouldAdvanceBufferPastDecodedPeriods() {
+            // Given
+            byte[] encoded = DateTimePeriodCodec.encode(COLLECTION);
+            ByteBuffer buffer = ByteBuffer.allocate(encoded.length * 2);
+            buffer.put(encoded).put(encoded).flip();
+
+            // When
+            DateTimePeriodCollection first = DateTimePeriodCodec.decode(buffer);
+            DateTimePeriodCollection second = DateTimePeriodCodec.decode(buffer);
+
+            // Then
+            assertThat(first).containsExactlyElementsOf(COLLECTION);
+            assertThat(second).containsExactlyElementsOf(COLLECTION);
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+
+        @Test
+        void shouldDecodeFromStream() throws IOException {
+            // Given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            DateTimePeriodCodec.encode(COLLECTION, out);
+            DateTimePeriodCodec.encode(DateTimePeriodCollection.empty(), out);
+            InputStream in = new ByteArrayInputStream(out.toByteArray());
+
+            // When
+            DateTimePeriodCollection first = DateTimePeriodCodec.decode(in);
+            DateTimePeriodCollection second = DateTimePeriodCodec.decode(in);
+
+            // Then
+            assertThat(first).containsExactlyElementsOf(COLLECTION);
+            assertThat(second).isEmpty();
+            assertThat(in.read()).isEqualTo(-1);
+        }
+
+        @Test
+        void shouldThrowException_whenStreamEndsEarly() {
+            // Given
+            byte[] encoded = DateTimePeriodCodec.encode(COLLECTION);
+            InputStream in = new ByteArrayInputStream(Arrays.copyOf(encoded, encoded.length - 1));
+
+            // Assertions
+            assertThatExceptionOfType(EOFException.class).isThrownBy(() -> DateTimePeriodCodec.decode(in));
+        }
+
+        @Test
+        void shouldThrowException_whenBufferEndsEarly() {
+            // Given
+            byte[] encoded = DateTimePeriodCodec.encode(COLLECTION);
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> DateTimePeriodCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)))
+                    .withMessageContaining("unexpected end of buffer");
+        }
+
+        @Test
+        void shouldThrowException_whenVersionIsUnsupported() {
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> DateTimePeriodCodec.decode(new byte[] {2, 0}))
+                    .withMessageContaining("unsupported version 2");
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionIsUnknown() {
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> DateTimePeriodCodec.decode(new byte[] {1, 1, 6, 0, 0}))
+                    .withMessageContaining("unknown precision 6");
+        }
+
+        @Test
+        void shouldThrowException_whenPeriodIsOutOfRange() {
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() ->
+                            DateTimePeriodCodec.decode(new byte[] {1, 1, 0, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1, 0}))
+                    .withMessageContaining("period out of range");
+        }
+    }
+}
@@ -1,8 +1,22 @@
 package dev.nextgin.commons.datetimeperiod;
 
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -78,6 +92,120 @@ class DateTimePeriodCollectionTest {
         assertThat(DateTimePeriodCollection.empty().union()).isEmpty();
     }
 
+    @Test
+    void union_shouldMergeTouchingPeriods() {
+        // Given
+        DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                DateTimePeriod.make(
+                        LocalDateTime.of(2024, 1, 1, 12, 0), LocalDateTime.of(2024, 1, 1, 14, 0), Precision.HOUR),
+                DateTimePeriod.make(
+                        LocalDateTime.of(2024, 1, 1, 8, 0), LocalDateTime.of(2024, 1, 1, 11, 0), Precision.HOUR),
+                DateTimePeriod.make(
+                        LocalDateTime.of(2024, 1, 1, 16, 0), LocalDateTime.of(2024, 1, 1, 17, 0), Precision.HOUR));
+
+        // When
+        DateTimePeriodCollection result = collection.union();
+
+        // Then
+        assertThat(result)
+                .containsExactly(
+                        DateTimePeriod.make(
+                                LocalDateTime.of(2024, 1, 1, 8, 0),
+                                LocalDateTime.of(2024, 1, 1, 14, 0),
+                                Precision.HOUR),
+                        DateTimePeriod.make(
+                                LocalDateTime.of(2024, 1, 1, 16, 0),
+                                LocalDateTime.of(2024, 1, 1, 17, 0),
+                                Precision.HOUR));
+    }
+
+    @Test
+    void union_shouldThrowException_whenPrecisionDoesNotMatch() {
+        // Given
+        DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5)),
+                DateTimePeriod.make(
+                        LocalDate.of(2024, 1, 3).atStartOfDay(),
+                        LocalDate.of(2024, 1, 9).atStartOfDay()));
+
+        // Assertions
+        assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(collection::union);
+    }
+
+    @Test
+    void spliterator_shouldReportSorted_whenPeriodsAreOrderedByStart() {
+        // Given
+        DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5)),
+                DateTimePeriod.make(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 4)),
+                DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 12)),
+                DateTimePeriod.make(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 1, 22)));
+
+        // When
+        Spliterator<DateTimePeriod> spliterator = collection.spliterator();
+        Spliterator<DateTimePeriod> prefix = spliterator.trySplit();
+
+        // Then
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.SIZED | Spliterator.SUBSIZED))
+                .isTrue();
+        assertThat(spliterator.getComparator()).isNull();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.hasCharacteristics(Spliterator.SORTED)).isTrue();
+        assertThat(prefix.estimateSize()).isEqualTo(2);
+        assertThat(spliterator.estimateSize()).isEqualTo(2);
+    }
+
+    @Test
+    void spliterator_shouldBindOnFirstUse() {
+        // Given
+        DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5)),
+                DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 12)));
+        Spliterator<DateTimePeriod> sorted = collection.spliterator();
+        Spliterator<DateTimePeriod> unsorted = collection.spliterator();
+
+        // When
+        boolean reportedSorted = sorted.hasCharacteristics(Spliterator.SORTED);
+        collection.add(DateTimePeriod.make(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3)));
+
+        // Then
+        assertThat(reportedSorted).isTrue();
+        assertThat(unsorted.hasCharacteristics(Spliterator.SORTED)).isFalse();
+        assertThat(unsorted.estimateSize()).isEqualTo(3);
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> sorted.forEachRemaining(period -> {}));
+    }
+
+    @Test
+    void spliterator_shouldNotReportSorted_whenStartsAreEqualButEndsAreUnordered() {
+        // Given
+        DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5)),
+                DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3)));
+
+        // Assertions
+        assertThat(collection.spliterator().hasCharacteristics(Spliterator.SORTED))
+                .isFalse();
+        assertThat(collection.stream().sorted().toList()).containsExactly(collection.get(1), collection.get(0));
+    }
+
+    @Test
+    void spliterator_shouldNotReportSorted_whenPeriodsAreUnordered() {
+        // Given
+        DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 12)),
+                DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5)));
+
+        // When
+        Spliterator<DateTimePeriod> spliterator = collection.spliterator();
+
+        // Then
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED)).isFalse();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED))
+                .isTrue();
+        assertThat(collection.parallelStream().toList()).containsExactlyElementsOf(collection);
+    }
+
     @Nested
     class OverlapAll {
 
@@ -126,6 +254,43 @@ class DateTimePeriodCollectionTest {
             assertThat(result.get(1))
                     .isEqualTo(DateTimePeriod.make(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 20)));
         }
+
+        @Test
+        void shouldMergeOverlapsOfOverlappingPeriods() {
+            // Given
+            DateTimePeriodCollection current = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 25)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 12)));
+
+            DateTimePeriodCollection a = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 2, 10)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 15)));
+
+            DateTimePeriodCollection b = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+
+            // When
+            DateTimePeriodCollection result = current.overlapAll(a, b);
+
+            // Then
+            assertThat(result)
+                    .containsExactly(
+                            DateTimePeriod.make(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 15)),
+                            DateTimePeriod.make(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 1, 25)));
+        }
+
+        @Test
+        void shouldReturnEmptyCollection_whenACollectionIsEmpty() {
+            // Given
+            DateTimePeriodCollection current = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+
+            // When
+            DateTimePeriodCollection result = current.overlapAll(current, DateTimePeriodCollection.empty());
+
+            // Then
+            assertThat(result).isEmpty();
+        }
     }
 
     @Nested
@@ -209,6 +374,33 @@ class DateTimePeriodCollectionTest {
                     .isEqualTo(DateTimePeriod.make(LocalDate.of(2024, 3, 21), LocalDate.of(2024, 3, 31)));
         }
 
+        @Test
+        void shouldSubtractUnsortedOverlappingCollections() {
+            // Given
+            DateTimePeriodCollection current = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 20)),
+                    DateTimePeriod.make(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 5)));
+
+            DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 20)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 12)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 11)),
+                    DateTimePeriod.make(LocalDate.of(2024, 3, 10), LocalDate.of(2024, 3, 16)));
+
+            // When
+            DateTimePeriodCollection result = current.subtract(collection);
+
+            // Then
+            assertThat(result)
+                    .containsExactly(
+                            DateTimePeriod.make(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 9)),
+                            DateTimePeriod.make(LocalDate.of(2024, 3, 21), LocalDate.of(2024, 3, 31)),
+                            DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 4)),
+                            DateTimePeriod.make(LocalDate.of(2024, 1, 13), LocalDate.of(2024, 1, 20)),
+                            DateTimePeriod.make(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 5)));
+        }
+
         @Test
         void shouldReturnSelf_whenCollectionIsEmpty() {
             // Given
@@ -251,6 +443,39 @@ class DateTimePeriodCollectionTest {
                     .isEqualTo(DateTimePeriod.make(LocalDate.of(2024, 1, 26), LocalDate.of(2024, 1, 29)));
         }
 
+        @Test
+        void shouldDetermineGapsOfAnUnsortedOverlappingCollection() {
+            // Given
+            DateTimePeriodCollection current = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 1, 25)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 12)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 5)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 13), LocalDate.of(2024, 1, 15)));
+
+            // When
+            DateTimePeriodCollection result = current.gaps();
+
+            // Then
+            assertThat(result)
+                    .containsExactly(DateTimePeriod.make(LocalDate.of(2024, 1, 16), LocalDate.of(2024, 1, 19)));
+        }
+
+        @Test
+        void shouldSkipGapsShorterThanTheMinimumDuration() {
+            // Given
+            DateTimePeriodCollection current = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 15)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 1, 25)));
+
+            // When
+            DateTimePeriodCollection result = current.gaps(Duration.ofDays(2));
+
+            // Then
+            assertThat(result)
+                    .containsExactly(DateTimePeriod.make(LocalDate.of(2024, 1, 16), LocalDate.of(2024, 1, 19)));
+        }
+
         @Test
         void shouldReturnEmptyCollection_whenCollectionEmpty() {
             // Given
@@ -277,4 +502,264 @@ class DateTimePeriodCollectionTest {
             assertThat(result).isNotNull().isEmpty();
         }
     }
+
+    @Nested
+    class Parallel {
+
+        private DateTimePeriodCollection randomCollection(int size) {
+            Random random = new Random(42);
+            DateTimePeriodCollection collection = DateTimePeriodCollection.empty();
+            for (int i = 0; i < size; i++) {
+                LocalDateTime start = ORIGIN.plusHours(random.nextInt(size * 4));
+                collection.add(DateTimePeriod.make(start, start.plusHours(random.nextInt(6)), Precision.HOUR));
+            }
+            return collection;
+        }
+
+        @Test
+        void parallelUnion_shouldMatchUnion() {
+            // Given
+            DateTimePeriodCollection collection = randomCollection(DateTimePeriodSweep.PARALLEL_THRESHOLD * 8);
+
+            // When
+            DateTimePeriodCollection result = collection.parallelUnion();
+
+            // Then
+            assertThat(result).containsExactlyElementsOf(collection.union());
+        }
+
+        @Test
+        void parallelUnion_shouldStitchAPeriodSpanningEveryChunk() {
+            // Given
+            int size = DateTimePeriodSweep.PARALLEL_THRESHOLD * 4;
+            DateTimePeriodCollection collection = DateTimePeriodCollection.empty();
+            for (int i = 0; i < size; i++) {
+                collection.add(
+                        DateTimePeriod.make(ORIGIN.plusHours(i * 3L), ORIGIN.plusHours(i * 3L + 1), Precision.HOUR));
+            }
+            collection.add(DateTimePeriod.make(ORIGIN, ORIGIN.plusHours(size * 3L - 5), Precision.HOUR));
+
+            // When
+            DateTimePeriodCollection result = collection.parallelUnion();
+
+            // Then
+            assertThat(result)
+                    .containsExactly(
+                            DateTimePeriod.make(ORIGIN, ORIGIN.plusHours(size * 3L - 5), Precision.HOUR),
+                            DateTimePeriod.make(
+                                    ORIGIN.plusHours(size * 3L - 3), ORIGIN.plusHours(size * 3L - 2), Precision.HOUR));
+        }
+
+        @Test
+        void parallelUnion_shouldMergeSmallCollectionsSequentially() {
+            // Given
+            DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 8)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 12)));
+
+            // When
+            DateTimePeriodCollection result = collection.parallelUnion();
+
+            // Then
+            assertThat(result)
+                    .containsExactly(
+                            DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 8)),
+                            DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 12)));
+            assertThat(DateTimePeriodCollection.empty().parallelUnion()).isEmpty();
+        }
+
+        @Test
+        void parallelUnion_shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            DateTimePeriodCollection collection = randomCollection(DateTimePeriodSweep.PARALLEL_THRESHOLD * 4);
+            collection.add(DateTimePeriod.make(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 9)));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(collection::parallelUnion);
+        }
+
+        @Test
+        void parallelGaps_shouldMatchGaps() {
+            // Given
+            DateTimePeriodCollection collection = randomCollection(DateTimePeriodSweep.PARALLEL_THRESHOLD * 8);
+
+            // When
+            DateTimePeriodCollection result = collection.parallelGaps();
+            DateTimePeriodCollection longGaps = collection.parallelGaps(Duration.ofHours(3));
+
+            // Then
+            assertThat(result).isNotEmpty().containsExactlyElementsOf(collection.gaps());
+            assertThat(longGaps).isNotEmpty().containsExactlyElementsOf(collection.gaps(Duration.ofHours(3)));
+        }
+    }
+
+    @Nested
+    class Order {
+
+        @Test
+        void shouldTrackSortedAndNormalizedPeriods_whenAdding() {
+            // Given
+            DateTimePeriodCollection collection = DateTimePeriodCollection.of(days(1, 2), days(5, 6));
+
+            // Assertions
+            assertThat(collection.isSorted()).isTrue();
+            assertThat(collection.isNormalized()).isTrue();
+
+            collection.add(days(8, 9));
+            assertThat(collection.isSorted()).isTrue();
+
+            collection.add(days(3, 4));
+            assertThat(collection.isSorted()).isFalse();
+
+            collection.clear();
+            collection.addAll(List.of(days(1, 2), days(4, 6), days(8, 8)));
+            assertThat(collection.isNormalized()).isTrue();
+
+            collection.add(days(9, 10));
+            assertThat(collection.isSorted()).isTrue();
+            assertThat(collection.isNormalized()).isFalse();
+        }
+
+        @Test
+        void of_shouldDetectNormalizedPeriods() {
+            // Assertions
+            assertThat(DateTimePeriodCollection.of(days(1, 2), days(4, 6), days(8, 8))
+                            .isNormalized())
+                    .isTrue();
+            assertThat(DateTimePeriodCollection.of(days(1, 2), days(3, 6)).isNormalized())
+                    .isFalse();
+            assertThat(DateTimePeriodCollection.of(days(1, 2), days(3, 6)).isSorted())
+                    .isTrue();
+            assertThat(DateTimePeriodCollection.of(days(1, 5), days(3, 6)).isNormalized())
+                    .isFalse();
+            assertThat(DateTimePeriodCollection.of(days(5, 6), days(1, 2)).isNormalized())
+                    .isFalse();
+            assertThat(DateTimePeriodCollection.of(
+                                    days(1, 2),
+                                    DateTimePeriod.make(
+                                            LocalDateTime.of(2024, 1, 5, 0, 0),
+                                            LocalDateTime.of(2024, 1, 6, 0, 0),
+                                            Precision.HOUR))
+                            .isNormalized())
+                    .isFalse();
+        }
+
+        @Test
+        void shouldMarkOperationResultsAsNormalized() {
+            // Given
+            DateTimePeriodCollection collection = DateTimePeriodCollection.of(days(10, 12), days(1, 5), days(3, 8));
+
+            // Assertions
+            assertThat(collection.isSorted()).isFalse();
+            assertThat(collection.union().isNormalized()).isTrue();
+            assertThat(collection.parallelUnion().isNormalized()).isTrue();
+            assertThat(collection.gaps().isNormalized()).isTrue();
+            assertThat(collection
+                            .overlapAll(DateTimePeriodCollection.of(days(4, 11)))
+                            .isNormalized())
+                    .isTrue();
+            assertThat(collection.union().subtract(days(2, 3)).isNormalized()).isTrue();
+        }
+
+        @Test
+        void shouldOnlyTrustFlagsThatHold() {
+            // Given
+            Random random = new Random(42);
+            for (int round = 0; round < 200; round++) {
+                DateTimePeriodCollection collection = DateTimePeriodCollection.empty();
+                for (int i = random.nextInt(8); i > 0; i--) {
+                    int start = 1 + random.nextInt(25);
+                    collection.add(days(start, start + random.nextInt(5)));
+                }
+                if (random.nextBoolean() && !collection.isEmpty()) {
+                    collection.remove(collection.get(random.nextInt(collection.size())));
+                }
+
+                // Assertions
+                if (collection.isSorted()) {
+                    assertThat(DateTimePeriodSweep.isSorted(List.copyOf(collection)))
+                            .isTrue();
+                }
+                if (collection.isNormalized()) {
+                    assertThat(DateTimePeriodSweep.union(List.copyOf(collection)))
+                            .containsExactlyElementsOf(collection);
+                }
+                assertThat(collection.union())
+                        .containsExactlyElementsOf(
+                                DateTimePeriodSweep.union(DateTimePeriodSweep.sorted(List.copyOf(collection))));
+            }
+        }
+    }
+
+    @Nested
+    class Serialization {
+
+        @Test
+        void shouldRoundTripPeriodsInOrder() throws Exception {
+            // Given
+            DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 20)),
+                    DateTimePeriod.make(
+                            LocalDateTime.of(2024, 1, 5, 10, 0), LocalDateTime.of(2024, 1, 5, 12, 0), Precision.HOUR),
+                    DateTimePeriod.make(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 2)));
+
+            // When
+            DateTimePeriodCollection copy = roundTrip(collection);
+
+            // Then
+            assertThat(copy).containsExactlyElementsOf(collection);
+            assertThat(roundTrip(DateTimePeriodCollection.empty())).isEmpty();
+        }
+
+        @Test
+        void shouldRestoreNormalizedFlag() throws Exception {
+            // Given
+            DateTimePeriodCollection union = DateTimePeriodCollection.of(
+                            DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 20)),
+                            DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 2, 20)),
+                            DateTimePeriod.make(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)))
+                    .union();
+
+            // When
+            DateTimePeriodCollection copy = roundTrip(union);
+
+            // Then
+            assertThat(copy).containsExactlyElementsOf(union);
+            assertThat(copy.isNormalized()).isTrue();
+        }
+
+        @Test
+        void shouldBeSmallerThanSerializingAList() throws Exception {
+            // Given
+            DateTimePeriodCollection collection = DateTimePeriodCollection.empty();
+            LocalDateTime start = LocalDateTime.of(2024, 1, 1, 8, 0);
+            for (int i = 0; i < 1_000; i++) {
+                collection.add(
+                        DateTimePeriod.make(start.plusHours(i * 5L), start.plusHours(i * 5L + 2), Precision.HOUR));
+            }
+
+            // When
+            int compact = serialize(collection).length;
+            int list = serialize(new ArrayList<>(collection)).length;
+
+            // Then
+            assertThat(compact).isLessThan(4_000).isLessThan(list / 4);
+        }
+
+        private static byte[] serialize(Object object) throws Exception {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(object);
+            }
+            return bytes.toByteArray();
+        }
+
+        private static DateTimePeriodCollection roundTrip(DateTimePeriodCollection collection) throws Exception {
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(collection)))) {
+                return (DateTimePeriodCollection) in.readObject();
+            }
+        }
+    }
 }
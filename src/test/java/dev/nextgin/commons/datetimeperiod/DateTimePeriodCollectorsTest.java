@@ -0,0 +1,165 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DateTimePeriodCollectorsTest {
+
+    private static List<DateTimePeriod> randomPeriods(int size) {
+        Random random = new Random(7);
+        List<DateTimePeriod> periods = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = ORIGIN.plusMinutes(random.nextInt(size * 3));
+            periods.add(DateTimePeriod.make(start, start.plusMinutes(random.nextInt(4)), Precision.MINUTE));
+        }
+        return periods;
+    }
+
+    @Nested
+    class ToUnion {
+
+        @Test
+        void shouldMergeOverlappingAndTouchingPeriods() {
+            // Given
+            Stream<DateTimePeriod> periods = Stream.of(days(20, 25), days(1, 10), days(5, 15), days(26, 29));
+
+            // When
+            DateTimePeriodCollection result = periods.collect(DateTimePeriodCollectors.toUnion());
+
+            // Then
+            assertThat(result).containsExactly(days(1, 15), days(20, 29));
+        }
+
+        @Test
+        void shouldMatchUnion_whenCollectedInParallel() {
+            // Given
+            List<DateTimePeriod> periods = randomPeriods(50_000);
+
+            // When
+            DateTimePeriodCollection result = periods.parallelStream().collect(DateTimePeriodCollectors.toUnion());
+
+            // Then
+            assertThat(result)
+                    .containsExactlyElementsOf(
+                            DateTimePeriodCollection.of(periods).union());
+        }
+
+        @Test
+        void shouldReturnEmptyCollection_whenStreamIsEmpty() {
+            assertThat(Stream.<DateTimePeriod>empty().collect(DateTimePeriodCollectors.toUnion()))
+                    .isEmpty();
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            Stream<DateTimePeriod> periods = Stream.of(days(1, 5), DateTimePeriod.make(day(3), day(9)));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> periods.collect(DateTimePeriodCollectors.toUnion()));
+        }
+    }
+
+    @Nested
+    class ToGaps {
+
+        @Test
+        void shouldDetermineGapsBetweenPeriods() {
+            // Given
+            Stream<DateTimePeriod> periods = Stream.of(days(20, 25), days(1, 5), days(8, 15));
+
+            // When
+            DateTimePeriodCollection result = periods.collect(DateTimePeriodCollectors.toGaps(Duration.ofDays(2)));
+
+            // Then
+            assertThat(result).containsExactly(days(16, 19));
+        }
+
+        @Test
+        void shouldMatchGaps_whenCollectedInParallel() {
+            // Given
+            List<DateTimePeriod> periods = randomPeriods(50_000);
+
+            // When
+            DateTimePeriodCollection result = periods.parallelStream().collect(DateTimePeriodCollectors.toGaps());
+
+            // Then
+            assertThat(result)
+                    .containsExactlyElementsOf(
+                            DateTimePeriodCollection.of(periods).gaps());
+        }
+    }
+
+    @Nested
+    class ToBoundaries {
+
+        @Test
+        void shouldDetermineBoundariesOfPeriods() {
+            // Given
+            List<DateTimePeriod> periods = randomPeriods(10_000);
+
+            // When
+            DateTimePeriod result = periods.parallelStream().collect(DateTimePeriodCollectors.toBoundaries());
+
+            // Then
+            assertThat(result).isEqualTo(DateTimePeriodCollection.of(periods).boundaries());
+        }
+
+        @Test
+        void shouldReturnNull_whenStreamIsEmpty() {
+            assertThat(Stream.<DateTimePeriod>empty().collect(DateTimePeriodCollectors.toBoundaries()))
+                    .isNull();
+        }
+    }
+
+    @Nested
+    class ToIntersection {
+
+        @Test
+        void shouldDetermineTimeSharedByAllPeriods() {
+            // Given
+            Stream<DateTimePeriod> periods = Stream.of(days(1, 20), days(5, 25), days(3, 12));
+
+            // When
+            DateTimePeriod result = periods.parallel().collect(DateTimePeriodCollectors.toIntersection());
+
+            // Then
+            assertThat(result).isEqualTo(days(5, 12));
+        }
+
+        @Test
+        void shouldReturnNull_whenPeriodsDoNotShareTime() {
+            // Given
+            Stream<DateTimePeriod> periods = Stream.of(days(1, 10), days(5, 25), days(11, 12));
+
+            // When
+            DateTimePeriod result = periods.collect(DateTimePeriodCollectors.toIntersection());
+
+            // Then
+            assertThat(result).isNull();
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            Stream<DateTimePeriod> periods = Stream.of(days(1, 5), DateTimePeriod.make(day(3), day(9)));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> periods.collect(DateTimePeriodCollectors.toIntersection()));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.hours;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DateTimePeriodDepthTest {
+
+    @Test
+    void shouldBuildStepFunction() {
+        // Given
+        DateTimePeriodCollection collection =
+                DateTimePeriodCollection.of(days(1, 10), days(5, 15), days(8, 8), days(16, 20), days(25, 26));
+
+        // When
+        DateTimePeriodDepth depth = collection.depth();
+
+        // Then
+        assertThat(depth.steps())
+                .extracting(DateTimePeriodDepth.Step::period, DateTimePeriodDepth.Step::depth)
+                .containsExactly(
+                        tuple(days(1, 4), 1),
+                        tuple(days(5, 7), 2),
+                        tuple(days(8, 8), 3),
+                        tuple(days(9, 10), 2),
+                        tuple(days(11, 20), 1),
+                        tuple(days(25, 26), 1));
+        assertThat(depth.maxDepth()).isEqualTo(3);
+        assertThat(depth.peaks()).containsExactly(days(8, 8));
+        assertThat(depth.atLeast(2)).containsExactly(days(5, 10));
+        assertThat(depth.atLeast(1)).containsExactlyElementsOf(collection.union());
+    }
+
+    @Test
+    void depthAt_shouldCountActivePeriods() {
+        // Given
+        DateTimePeriodDepth depth = DateTimePeriodDepth.of(DateTimePeriodCollection.of(days(1, 10), days(5, 15)));
+
+        // Assertions
+        assertThat(depth.depthAt(day(3).plusHours(12))).isEqualTo(1);
+        assertThat(depth.depthAt(day(10))).isEqualTo(2);
+        assertThat(depth.depthAt(day(16))).isZero();
+        assertThat(depth.depthAt(LocalDate.of(2023, 12, 31).atStartOfDay())).isZero();
+    }
+
+    @Test
+    void shouldBeEmpty_whenThereAreNoPeriods() {
+        // When
+        DateTimePeriodDepth depth = DateTimePeriodCollection.empty().depth();
+
+        // Then
+        assertThat(depth.steps()).isEmpty();
+        assertThat(depth.maxDepth()).isZero();
+        assertThat(depth.peaks()).isEmpty();
+        assertThat(depth.depthAt(ORIGIN)).isZero();
+    }
+
+    @Test
+    void shouldMatchCountingOverlaps() {
+        // Given
+        Random random = new Random(42);
+        List<DateTimePeriod> periods = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int start = random.nextInt(2_000);
+            periods.add(hours(start, start + random.nextInt(100)));
+        }
+
+        // When
+        DateTimePeriodDepth depth = DateTimePeriodDepth.of(periods);
+
+        // Then
+        int maxDepth = 0;
+        for (int hour = -1; hour < 2_200; hour++) {
+            LocalDateTime time = ORIGIN.plusHours(hour);
+            int expected = (int) periods.stream().filter(p -> p.contains(time)).count();
+            assertThat(depth.depthAt(time)).isEqualTo(expected);
+            assertThat(depth.atLeast(3).stream().anyMatch(p -> p.contains(time)))
+                    .isEqualTo(expected >= 3);
+            maxDepth = Math.max(maxDepth, expected);
+        }
+        assertThat(depth.maxDepth()).isEqualTo(maxDepth);
+    }
+
+    @Test
+    void shouldThrowException_whenPrecisionDoesNotMatch() {
+        assertThatExceptionOfType(DateTimePeriodException.class)
+                .isThrownBy(() ->
+                        DateTimePeriodCollection.of(days(1, 5), hours(0, 5)).depth());
+    }
+}
@@ -0,0 +1,35 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Shorthands building the periods of January 2024 used across the tests.
+ */
+final class DateTimePeriodFixtures {
+
+    static final LocalDateTime ORIGIN = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private DateTimePeriodFixtures() {}
+
+    /**
+     * Returns the start of the given day of January 2024.
+     */
+    static LocalDateTime day(int day) {
+        return LocalDate.of(2024, 1, day).atStartOfDay();
+    }
+
+    /**
+     * Returns the DAY period between two days of January 2024, both inclusive.
+     */
+    static DateTimePeriod days(int startDay, int endDay) {
+        return DateTimePeriod.make(LocalDate.of(2024, 1, startDay), LocalDate.of(2024, 1, endDay));
+    }
+
+    /**
+     * Returns the HOUR period between two hours counted from {@link #ORIGIN}, both inclusive.
+     */
+    static DateTimePeriod hours(int start, int end) {
+        return DateTimePeriod.make(ORIGIN.plusHours(start), ORIGIN.plusHours(end), Precision.HOUR);
+    }
+}
@@ -0,0 +1,92 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DateTimePeriodIndexTest {
+
+    private final DateTimePeriodCollection periods = DateTimePeriodCollection.of(
+            days(20, 25),
+            days(1, 31),
+            days(5, 10),
+            DateTimePeriod.make(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 15)),
+            days(10, 12));
+
+    private final DateTimePeriodIndex index = DateTimePeriodIndex.of(periods);
+
+    @Test
+    void stab_shouldFindPeriodsContainingTheInstant() {
+        assertThat(index.stab(day(10).plusHours(13).plusMinutes(45)))
+                .containsExactly(periods.get(1), periods.get(2), periods.get(4));
+        assertThat(index.stab(day(31))).containsExactly(periods.get(1));
+        assertThat(index.stab(LocalDate.of(2024, 2, 16).atStartOfDay())).isEmpty();
+    }
+
+    @Test
+    void overlapping_shouldFindPeriodsOverlappingTheWindow() {
+        DateTimePeriod window = DateTimePeriod.make(LocalDate.of(2024, 1, 25), LocalDate.of(2024, 2, 1));
+
+        assertThat(index.overlapping(window)).containsExactly(periods.get(1), periods.get(0), periods.get(3));
+    }
+
+    @Test
+    void overlapping_shouldThrowException_whenPrecisionDoesNotMatch() {
+        DateTimePeriod window = DateTimePeriod.make(ORIGIN, day(2));
+
+        assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(() -> index.overlapping(window));
+    }
+
+    @Test
+    void shouldAnswerEmptyResults_whenIndexIsEmpty() {
+        DateTimePeriodIndex empty = DateTimePeriodIndex.of(DateTimePeriodCollection.empty());
+
+        assertThat(empty.size()).isZero();
+        assertThat(empty.stab(ORIGIN)).isEmpty();
+    }
+
+    @Test
+    void shouldMatchALinearScan() {
+        // Given
+        Random random = new Random(42);
+        List<DateTimePeriod> list = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = ORIGIN.plusHours(random.nextInt(2000));
+            list.add(DateTimePeriod.make(start, start.plusHours(random.nextInt(72)), Precision.HOUR));
+        }
+        DateTimePeriodIndex index = DateTimePeriodIndex.of(list);
+
+        List<DateTimePeriod> sorted =
+                list.stream().sorted(DateTimePeriodSweep.BY_START).toList();
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = ORIGIN.plusHours(random.nextInt(2100));
+            DateTimePeriod window = DateTimePeriod.make(start, start.plusHours(random.nextInt(24)), Precision.HOUR);
+            List<DateTimePeriod> streamed = new ArrayList<>();
+
+            // When
+            DateTimePeriodCollection result = index.overlapping(window);
+            DateTimePeriodCollection stabbed = index.stab(start);
+            index.overlapping(window, streamed::add);
+
+            // Then
+            assertThat(result)
+                    .containsExactlyElementsOf(
+                            sorted.stream().filter(window::overlapsWith).toList());
+            assertThat(stabbed)
+                    .containsExactlyElementsOf(sorted.stream()
+                            .filter(period -> period.contains(start))
+                            .toList());
+            assertThat(streamed).containsExactlyInAnyOrderElementsOf(result);
+        }
+    }
+}
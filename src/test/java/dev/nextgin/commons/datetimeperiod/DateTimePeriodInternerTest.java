@@ -0,0 +1,167 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class DateTimePeriodInternerTest {
+
+    @Test
+    void make_shouldReturnSameInstance_whenPeriodIsCached() {
+        // Given
+        DateTimePeriodInterner interner = DateTimePeriodInterner.withCapacity(64);
+
+        // When
+        DateTimePeriod first = interner.make(ORIGIN.plusMinutes(10), ORIGIN.plusMinutes(50), Precision.HOUR);
+        DateTimePeriod second = interner.make(ORIGIN, ORIGIN.plusMinutes(59), Precision.HOUR);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first).isEqualTo(DateTimePeriod.make(ORIGIN, ORIGIN, Precision.HOUR));
+        assertThat(interner.hitCount()).isEqualTo(1);
+        assertThat(interner.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void make_shouldMatchDateTimePeriodMake() {
+        // Given
+        DateTimePeriodInterner interner = DateTimePeriodInterner.withCapacity(64);
+        LocalDate start = ORIGIN.toLocalDate();
+        LocalDate end = day(5).toLocalDate();
+
+        // Assertions
+        assertThat(interner.make(start, end)).isEqualTo(DateTimePeriod.make(start, end));
+        assertThat(interner.make(start, end)).isSameAs(interner.make(start, end));
+        assertThat(interner.make(start.atStartOfDay(), end.atStartOfDay(), Precision.SECOND))
+                .isNotEqualTo(interner.make(start, end));
+    }
+
+    @Test
+    void make_shouldShareInstances_betweenDateAndDateTimeOverloads() {
+        // Given
+        DateTimePeriodInterner interner = DateTimePeriodInterner.withCapacity(64);
+        LocalDate date = LocalDate.of(1969, 12, 31);
+
+        // When
+        DateTimePeriod first = interner.make(date, date.plusDays(2));
+
+        // Then
+        assertThat(interner.make(date.atTime(13, 0), date.plusDays(2).atTime(1, 0), Precision.DAY))
+                .isSameAs(first);
+        assertThat(interner.make(date, date.plusDays(2))).isSameAs(first);
+        assertThat(interner.hitCount()).isEqualTo(2);
+        assertThatExceptionOfType(DateTimePeriodException.class)
+                .isThrownBy(() -> interner.make(date.plusDays(1), date));
+    }
+
+    @Test
+    void intern_shouldReturnCanonicalInstance() {
+        // Given
+        DateTimePeriodInterner interner = DateTimePeriodInterner.withCapacity(64);
+        DateTimePeriod first = DateTimePeriod.make(ORIGIN, ORIGIN.plusDays(1), Precision.DAY);
+        DateTimePeriod second = DateTimePeriod.make(ORIGIN, ORIGIN.plusDays(1), Precision.DAY);
+
+        // When
+        DateTimePeriod canonical = interner.intern(first);
+
+        // Then
+        assertThat(canonical).isSameAs(first);
+        assertThat(interner.intern(second)).isSameAs(first);
+        assertThat(interner.make(ORIGIN.toLocalDate(), ORIGIN.toLocalDate().plusDays(1)))
+                .isSameAs(first);
+    }
+
+    @Test
+    void shouldStayBounded_whenMorePeriodsThanCapacity() {
+        // Given
+        DateTimePeriodInterner interner = DateTimePeriodInterner.withCapacity(16);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            interner.make(ORIGIN.plusHours(i), ORIGIN.plusHours(i), Precision.HOUR);
+        }
+
+        // Then
+        assertThat(interner.capacity()).isEqualTo(16);
+        assertThat(interner.missCount()).isEqualTo(1_000);
+        assertThat(interner.evictionCount()).isBetween(1_000L - 16, 1_000L);
+    }
+
+    @Test
+    void withCapacity_shouldRoundUpToPowerOfTwo() {
+        assertThat(DateTimePeriodInterner.withCapacity(1).capacity()).isEqualTo(1);
+        assertThat(DateTimePeriodInterner.withCapacity(2).capacity()).isEqualTo(2);
+        assertThat(DateTimePeriodInterner.withCapacity(100).capacity()).isEqualTo(128);
+        assertThatIllegalArgumentException().isThrownBy(() -> DateTimePeriodInterner.withCapacity(0));
+    }
+
+    @Test
+    void clear_shouldResetCacheAndStatistics() {
+        // Given
+        DateTimePeriodInterner interner = DateTimePeriodInterner.withCapacity(8);
+        DateTimePeriod first = interner.make(ORIGIN, ORIGIN, Precision.MINUTE);
+        interner.make(ORIGIN, ORIGIN, Precision.MINUTE);
+
+        // When
+        interner.clear();
+
+        // Then
+        assertThat(interner.hitCount()).isZero();
+        assertThat(interner.missCount()).isZero();
+        assertThat(interner.evictionCount()).isZero();
+        assertThat(interner.make(ORIGIN, ORIGIN, Precision.MINUTE)).isNotSameAs(first);
+    }
+
+    @Test
+    void make_shouldThrowException_whenEndIsBeforeStart() {
+        DateTimePeriodInterner interner = DateTimePeriodInterner.withCapacity(8);
+
+        assertThatExceptionOfType(DateTimePeriodException.class)
+                .isThrownBy(() -> interner.make(ORIGIN.plusDays(1), ORIGIN, Precision.DAY));
+        assertThat(interner.missCount()).isZero();
+    }
+
+    @Test
+    void shouldReturnEqualPeriods_whenUsedConcurrently() throws Exception {
+        // Given
+        DateTimePeriodInterner interner = DateTimePeriodInterner.withCapacity(32);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        int hour = i % 64;
+                        DateTimePeriod period =
+                                interner.make(ORIGIN.plusHours(hour), ORIGIN.plusHours(hour + 1), Precision.HOUR);
+                        if (!period.equals(DateTimePeriod.make(
+                                ORIGIN.plusHours(hour), ORIGIN.plusHours(hour + 1), Precision.HOUR))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+
+            // Then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(interner.hitCount() + interner.missCount()).isEqualTo(40_000);
+    }
+}
@@ -0,0 +1,108 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.hours;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DateTimePeriodJoinTest {
+
+    @Test
+    void shouldEmitEveryOverlappingPairWithItsOverlap() {
+        // Given
+        DateTimePeriodCollection left = DateTimePeriodCollection.of(days(10, 20), days(1, 5), days(25, 26));
+        DateTimePeriodCollection right = DateTimePeriodCollection.of(days(5, 12), days(18, 18), days(27, 31));
+
+        // When
+        List<List<DateTimePeriod>> pairs = new ArrayList<>();
+        DateTimePeriodJoin.join(left, right, (l, r, overlap) -> pairs.add(List.of(l, r, overlap)));
+
+        // Then
+        assertThat(pairs)
+                .containsExactlyInAnyOrder(
+                        List.of(days(1, 5), days(5, 12), days(5, 5)),
+                        List.of(days(10, 20), days(5, 12), days(10, 12)),
+                        List.of(days(10, 20), days(18, 18), days(18, 18)));
+    }
+
+    @Test
+    void shouldJoinKeyedItems() {
+        // Given
+        List<Map.Entry<String, DateTimePeriod>> orders =
+                List.of(Map.entry("first", days(1, 3)), Map.entry("second", days(3, 9)));
+        List<Map.Entry<Integer, DateTimePeriod>> prices =
+                List.of(Map.entry(100, days(1, 1)), Map.entry(120, days(2, 31)));
+
+        // When
+        List<String> pairs = new ArrayList<>();
+        DateTimePeriodJoin.join(
+                orders,
+                Map.Entry::getValue,
+                prices,
+                Map.Entry::getValue,
+                (order, price, overlap) -> pairs.add(order.getKey() + "@" + price.getKey() + " " + overlap));
+
+        // Then
+        assertThat(pairs)
+                .containsExactlyInAnyOrder(
+                        "first@100 " + days(1, 1), "first@120 " + days(2, 3), "second@120 " + days(3, 9));
+    }
+
+    @Test
+    void shouldMatchNestedLoops() {
+        // Given
+        Random random = new Random(42);
+        List<DateTimePeriod> left = new ArrayList<>();
+        List<DateTimePeriod> right = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(5_000);
+            left.add(hours(start, start + random.nextInt(random.nextInt(10) == 0 ? 500 : 20)));
+            start = random.nextInt(5_000);
+            right.add(hours(start, start + random.nextInt(20)));
+        }
+
+        List<List<DateTimePeriod>> expected = new ArrayList<>();
+        for (DateTimePeriod l : left) {
+            for (DateTimePeriod r : right) {
+                if (l.overlapsWith(r)) {
+                    expected.add(List.of(l, r, l.overlap(r)));
+                }
+            }
+        }
+
+        // When
+        List<List<DateTimePeriod>> pairs = new ArrayList<>();
+        DateTimePeriodJoin.join(left, right, (l, r, overlap) -> pairs.add(List.of(l, r, overlap)));
+
+        // Then
+        assertThat(pairs).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void shouldNotEmit_whenASideIsEmpty() {
+        // When
+        List<DateTimePeriod> overlaps = new ArrayList<>();
+        DateTimePeriodJoin.join(
+                DateTimePeriodCollection.of(days(1, 5)),
+                DateTimePeriodCollection.empty(),
+                (l, r, overlap) -> overlaps.add(overlap));
+
+        // Then
+        assertThat(overlaps).isEmpty();
+    }
+
+    @Test
+    void shouldThrowException_whenPrecisionDoesNotMatch() {
+        assertThatExceptionOfType(DateTimePeriodException.class)
+                .isThrownBy(() -> DateTimePeriodJoin.join(
+                        DateTimePeriodCollection.of(days(1, 5), hours(0, 5)),
+                        DateTimePeriodCollection.of(days(1, 2)),
+                        (l, r, overlap) -> {}));
+    }
+}
@@ -0,0 +1,243 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DateTimePeriodSetTest {
+
+    @Nested
+    class Add {
+
+        @Test
+        void shouldKeepPeriodsSortedAndDisjoint() {
+            // When
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(20, 25), days(1, 5), days(10, 12));
+
+            // Then
+            assertThat(set).containsExactly(days(1, 5), days(10, 12), days(20, 25));
+        }
+
+        @Test
+        void shouldMergeOverlappingAndTouchingPeriods() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5), days(10, 12), days(20, 25), days(28, 31));
+
+            // When
+            boolean changed = set.add(days(6, 21));
+
+            // Then
+            assertThat(changed).isTrue();
+            assertThat(set).containsExactly(days(1, 25), days(28, 31));
+        }
+
+        @Test
+        void shouldReturnFalse_whenPeriodIsAlreadyCovered() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 10));
+
+            // Assertions
+            assertThat(set.add(days(3, 10))).isFalse();
+            assertThat(set).containsExactly(days(1, 10));
+        }
+
+        @Test
+        void shouldMatchCollectionUnion() {
+            // Given
+            DateTimePeriodCollection collection = DateTimePeriodCollection.of(
+                    days(30, 31), days(30, 31), days(4, 5), days(7, 9), days(12, 14), days(8, 13), days(1, 2));
+
+            // Assertions
+            assertThat(DateTimePeriodSet.of(collection)).containsExactlyElementsOf(collection.union());
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 10));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> set.add(DateTimePeriod.make(day(12), day(13))));
+        }
+    }
+
+    @Test
+    void shouldLookupPeriodsByDateTime() {
+        // Given
+        DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5), days(10, 12), days(20, 25));
+
+        // Assertions
+        assertThat(set.floor(day(10))).isEqualTo(days(10, 12));
+        assertThat(set.lower(day(10))).isEqualTo(days(1, 5));
+        assertThat(set.ceiling(day(11))).isEqualTo(days(20, 25));
+        assertThat(set.higher(day(20))).isNull();
+        assertThat(set.covering(day(11).plusHours(5))).isEqualTo(days(10, 12));
+        assertThat(set.covering(day(15))).isNull();
+        assertThat(set.covers(days(21, 25))).isTrue();
+        assertThat(set.covers(days(4, 10))).isFalse();
+        assertThat(set.first()).isEqualTo(days(1, 5));
+        assertThat(set.last()).isEqualTo(days(20, 25));
+    }
+
+    @Test
+    void shouldDetermineUnionGapsAndBoundaries() {
+        // Given
+        DateTimePeriodSet set = DateTimePeriodSet.of(days(20, 25), days(1, 5), days(10, 12));
+
+        // Assertions
+        assertThat(set.union()).containsExactly(days(1, 5), days(10, 12), days(20, 25));
+        assertThat(set.gaps()).containsExactly(days(6, 9), days(13, 19));
+        assertThat(set.boundaries()).isEqualTo(days(1, 25));
+        assertThat(DateTimePeriodSet.empty().boundaries()).isNull();
+        assertThat(DateTimePeriodSet.empty().gaps()).isEmpty();
+    }
+
+    @Test
+    void remove_shouldOnlyRemoveStoredPeriods() {
+        // Given
+        DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5), days(10, 12));
+
+        // Assertions
+        assertThat(set.contains(days(1, 5))).isTrue();
+        assertThat(set.contains(days(1, 4))).isFalse();
+        assertThat(set.remove(days(1, 4))).isFalse();
+        assertThat(set.remove(days(1, 5))).isTrue();
+        assertThat(set).containsExactly(days(10, 12));
+    }
+
+    @Nested
+    class Subtract {
+
+        @Test
+        void shouldSplitAPeriodInTwo() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 20));
+
+            // When
+            boolean changed = set.subtract(days(5, 8));
+
+            // Then
+            assertThat(changed).isTrue();
+            assertThat(set).containsExactly(days(1, 4), days(9, 20));
+        }
+
+        @Test
+        void shouldCutAndRemoveEveryOverlappedPeriod() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5), days(8, 10), days(12, 14), days(20, 25));
+
+            // When
+            boolean changed = set.subtract(days(3, 21));
+
+            // Then
+            assertThat(changed).isTrue();
+            assertThat(set).containsExactly(days(1, 2), days(22, 25));
+        }
+
+        @Test
+        void shouldReturnFalse_whenPeriodDoesNotOverlap() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5), days(10, 12));
+
+            // Assertions
+            assertThat(set.subtract(days(6, 9))).isFalse();
+            assertThat(DateTimePeriodSet.empty().subtract(days(6, 9))).isFalse();
+            assertThat(set).containsExactly(days(1, 5), days(10, 12));
+        }
+
+        @Test
+        void shouldMatchCollectionSubtraction() {
+            // Given
+            Random random = new Random(11);
+            DateTimePeriodSet set = DateTimePeriodSet.empty();
+            DateTimePeriodCollection expected = DateTimePeriodCollection.empty();
+
+            for (int i = 0; i < 500; i++) {
+                LocalDateTime start = ORIGIN.plusHours(random.nextInt(1_000));
+                DateTimePeriod period = DateTimePeriod.make(start, start.plusHours(random.nextInt(30)), Precision.HOUR);
+
+                // When
+                if (random.nextBoolean()) {
+                    set.add(period);
+                    expected.add(period);
+                } else {
+                    set.subtract(period);
+                    expected = expected.subtract(period);
+                }
+            }
+
+            // Then
+            assertThat(set).containsExactlyElementsOf(expected.union());
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> set.subtract(DateTimePeriod.make(day(2), day(3))));
+        }
+    }
+
+    @Nested
+    class Windows {
+
+        @Test
+        void overlaps_shouldCheckIfAnyPeriodOverlaps() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5), days(10, 12), days(20, 25));
+
+            // Assertions
+            assertThat(set.overlaps(days(6, 9))).isFalse();
+            assertThat(set.overlaps(days(6, 10))).isTrue();
+            assertThat(set.overlaps(days(13, 14))).isFalse();
+            assertThat(set.overlaps(days(21, 22))).isTrue();
+            assertThat(set.overlaps(days(26, 31))).isFalse();
+            assertThat(DateTimePeriodSet.empty().overlaps(days(1, 31))).isFalse();
+        }
+
+        @Test
+        void intersect_shouldClipPeriodsToWindow() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5), days(10, 12), days(20, 25));
+
+            // When
+            DateTimePeriodCollection result = set.intersect(days(3, 21));
+
+            // Then
+            assertThat(result).containsExactly(days(3, 5), days(10, 12), days(20, 21));
+        }
+
+        @Test
+        void free_shouldDetermineUncoveredTimeOfWindow() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5), days(10, 12), days(20, 25));
+
+            // Assertions
+            assertThat(set.free(days(3, 21))).containsExactly(days(6, 9), days(13, 19));
+            assertThat(set.free(days(2, 28))).containsExactly(days(6, 9), days(13, 19), days(26, 28));
+            assertThat(set.free(days(6, 9))).containsExactly(days(6, 9));
+            assertThat(set.free(days(10, 11))).isEmpty();
+        }
+
+        @Test
+        void free_shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            DateTimePeriodSet set = DateTimePeriodSet.of(days(1, 5));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> set.free(DateTimePeriod.make(day(2), day(3))));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DateTimePeriodStoreTest {
+
+    private static final DateTimePeriodCollection COLLECTION = DateTimePeriodCollection.of(
+            days(20, 25),
+            days(1, 31),
+            days(5, 6),
+            DateTimePeriod.make(LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 12)),
+            days(10, 12));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldStorePeriodsOrderedByStart() throws IOException {
+        // Given
+        Path path = directory.resolve("periods.dtps");
+        DateTimePeriodStore.write(path, Precision.DAY, COLLECTION);
+
+        // When
+        DateTimePeriodStore store = DateTimePeriodStore.open(path);
+
+        // Then
+        assertThat(store.size()).isEqualTo(5);
+        assertThat(store.precision()).isEqualTo(Precision.DAY);
+        assertThat(Files.size(path)).isEqualTo(16 + 5 * 24);
+        assertThat(store.stream())
+                .containsExactly(
+                        days(1, 31),
+                        days(5, 6),
+                        days(10, 12),
+                        days(20, 25),
+                        DateTimePeriod.make(LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 12)));
+        assertThat(store.get(3)).isEqualTo(days(20, 25));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> store.get(5));
+    }
+
+    @Test
+    void shouldFindFloorAndCeilingByStart() throws IOException {
+        // Given
+        Path path = directory.resolve("periods.dtps");
+        DateTimePeriodStore.write(path, Precision.DAY, COLLECTION);
+        DateTimePeriodStore store = DateTimePeriodStore.open(path);
+
+        // Assertions
+        assertThat(store.floor(day(10).plusHours(12))).isEqualTo(days(10, 12));
+        assertThat(store.ceiling(day(10))).isEqualTo(days(10, 12));
+        assertThat(store.ceiling(day(11))).isEqualTo(days(20, 25));
+        assertThat(store.floor(LocalDate.of(2023, 12, 31).atStartOfDay())).isNull();
+        assertThat(store.ceiling(LocalDate.of(2024, 2, 11).atStartOfDay())).isNull();
+    }
+
+    @Nested
+    class Queries {
+
+        @Test
+        void stab_shouldFindPeriodsContainingTime() throws IOException {
+            // Given
+            Path path = directory.resolve("periods.dtps");
+            DateTimePeriodStore.write(path, Precision.DAY, COLLECTION);
+            DateTimePeriodStore store = DateTimePeriodStore.open(path);
+
+            // When
+            List<DateTimePeriod> result = store.stab(day(11)).toList();
+
+            // Then
+            assertThat(result).containsExactly(days(1, 31), days(10, 12));
+        }
+
+        @Test
+        void overlapping_shouldMatchIndex_acrossSegments() throws IOException {
+            // Given
+            Random random = new Random(3);
+            List<DateTimePeriod> periods = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                LocalDateTime start = ORIGIN.plusHours(random.nextInt(10_000));
+                periods.add(DateTimePeriod.make(start, start.plusHours(random.nextInt(50)), Precision.HOUR));
+            }
+            Path path = directory.resolve("periods.dtps");
+            DateTimePeriodStore.write(path, Precision.HOUR, periods);
+            DateTimePeriodStore store = DateTimePeriodStore.open(path, 7);
+            DateTimePeriodIndex index = DateTimePeriodIndex.of(periods);
+
+            for (int i = 0; i < 100; i++) {
+                // Given
+                LocalDateTime start = ORIGIN.plusHours(random.nextInt(10_000));
+                DateTimePeriod window =
+                        DateTimePeriod.make(start, start.plusHours(random.nextInt(100)), Precision.HOUR);
+
+                // When
+                List<DateTimePeriod> result = store.overlapping(window).toList();
+
+                // Then
+                assertThat(result).containsExactlyInAnyOrderElementsOf(index.overlapping(window));
+            }
+        }
+
+        @Test
+        void overlapping_shouldThrowException_whenPrecisionDoesNotMatch() throws IOException {
+            // Given
+            Path path = directory.resolve("periods.dtps");
+            DateTimePeriodStore.write(path, Precision.DAY, COLLECTION);
+            DateTimePeriodStore store = DateTimePeriodStore.open(path);
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> store.overlapping(DateTimePeriod.make(ORIGIN, day(2))));
+        }
+    }
+
+    @Test
+    void shouldOpenEmptyStore() throws IOException {
+        // Given
+        Path path = directory.resolve("empty.dtps");
+        DateTimePeriodStore.write(path, Precision.MINUTE, DateTimePeriodCollection.empty());
+
+        // When
+        DateTimePeriodStore store = DateTimePeriodStore.open(path);
+
+        // Then
+        assertThat(store.size()).isZero();
+        assertThat(store.stream()).isEmpty();
+        assertThat(store.floor(ORIGIN)).isNull();
+    }
+
+    @Test
+    void write_shouldThrowException_whenPrecisionDoesNotMatch() {
+        // Given
+        Path path = directory.resolve("periods.dtps");
+
+        // Assertions
+        assertThatExceptionOfType(DateTimePeriodException.class)
+                .isThrownBy(() -> DateTimePeriodStore.write(path, Precision.HOUR, COLLECTION));
+    }
+
+    @Test
+    void open_shouldThrowException_whenFileIsNotAStore() throws IOException {
+        // Given
+        Path path = directory.resolve("periods.dtps");
+        Files.write(path, new byte[] {1, 2, 3});
+
+        // Assertions
+        assertThatExceptionOfType(DateTimePeriodException.class)
+                .isThrownBy(() -> DateTimePeriodStore.open(path))
+                .withMessageContaining("not a period store");
+    }
+
+    @Test
+    void open_shouldThrowException_whenFileIsTruncated() throws IOException {
+        // Given
+        Path path = directory.resolve("periods.dtps");
+        DateTimePeriodStore.write(path, Precision.DAY, COLLECTION);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 24));
+
+        // Assertions
+        assertThatExceptionOfType(DateTimePeriodException.class)
+                .isThrownBy(() -> DateTimePeriodStore.open(path))
+                .withMessageContaining("invalid count");
+    }
+}
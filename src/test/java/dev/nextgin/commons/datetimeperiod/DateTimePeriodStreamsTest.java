@@ -0,0 +1,171 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.hours;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class DateTimePeriodStreamsTest {
+
+    private static final List<DateTimePeriod> SORTED = List.of(
+            days(1, 10),
+            days(5, 15),
+            days(6, 8),
+            days(16, 18),
+            days(20, 25),
+            DateTimePeriod.make(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 3)));
+
+    /**
+     * Endless hourly periods, each starting two hours after the previous one.
+     */
+    private static Stream<DateTimePeriod> endless() {
+        return Stream.iterate(ORIGIN, start -> start.plusHours(2))
+                .map(start -> DateTimePeriod.make(start, start, Precision.HOUR));
+    }
+
+    @Nested
+    class Union {
+
+        @Test
+        void shouldMergeOverlappingAndTouchingPeriods() {
+            // When
+            List<DateTimePeriod> result =
+                    DateTimePeriodStreams.union(SORTED.stream()).toList();
+
+            // Then
+            assertThat(result)
+                    .containsExactly(
+                            days(1, 18),
+                            days(20, 25),
+                            DateTimePeriod.make(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 3)));
+            assertThat(result)
+                    .containsExactlyElementsOf(
+                            DateTimePeriodCollection.of(SORTED).union());
+        }
+
+        @Test
+        void shouldReuseUnmergedPeriods() {
+            // When
+            List<DateTimePeriod> result =
+                    DateTimePeriodStreams.union(SORTED.stream()).toList();
+
+            // Then
+            assertThat(result.get(2)).isSameAs(SORTED.get(5));
+        }
+
+        @Test
+        void shouldConsumeSourceLazily() {
+            // When
+            List<DateTimePeriod> result =
+                    DateTimePeriodStreams.union(endless()).limit(3).toList();
+
+            // Then
+            assertThat(result).hasSize(3);
+            assertThat(result.get(2)).isEqualTo(hours(4, 4));
+        }
+
+        @Test
+        void shouldReturnEmptyIterator_whenSourceIsEmpty() {
+            // When
+            Iterator<DateTimePeriod> result = DateTimePeriodStreams.union(Collections.emptyIterator());
+
+            // Then
+            assertThat(result).isExhausted();
+        }
+
+        @Test
+        void shouldThrowException_whenSourceIsNotSorted() {
+            // Given
+            Iterator<DateTimePeriod> result = DateTimePeriodStreams.union(
+                    List.of(days(1, 5), days(10, 12), days(3, 4)).iterator());
+
+            // Assertions
+            assertThat(result.next()).isEqualTo(days(1, 5));
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(result::next)
+                    .withMessageContaining("starts before the preceding period");
+        }
+
+        @Test
+        void shouldThrowException_whenPrecisionDoesNotMatch() {
+            // Given
+            Stream<DateTimePeriod> periods = Stream.of(days(1, 5), DateTimePeriod.make(day(3), day(9)));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> DateTimePeriodStreams.union(periods).toList());
+        }
+
+        @Test
+        void shouldCloseSource_whenClosed() {
+            // Given
+            AtomicBoolean closed = new AtomicBoolean();
+            Stream<DateTimePeriod> source = SORTED.stream().onClose(() -> closed.set(true));
+
+            // When
+            DateTimePeriodStreams.union(source).close();
+
+            // Then
+            assertThat(closed).isTrue();
+        }
+    }
+
+    @Nested
+    class Gaps {
+
+        @Test
+        void shouldDetermineGapsBetweenPeriods() {
+            // When
+            List<DateTimePeriod> result =
+                    DateTimePeriodStreams.gaps(SORTED.stream()).toList();
+
+            // Then
+            assertThat(result).containsExactly(days(19, 19), days(26, 31));
+            assertThat(result)
+                    .containsExactlyElementsOf(
+                            DateTimePeriodCollection.of(SORTED).gaps());
+        }
+
+        @Test
+        void shouldSkipGapsShorterThanTheMinimumDuration() {
+            // When
+            List<DateTimePeriod> result = DateTimePeriodStreams.gaps(SORTED.stream(), Duration.ofDays(1))
+                    .toList();
+
+            // Then
+            assertThat(result).containsExactly(days(26, 31));
+        }
+
+        @Test
+        void shouldConsumeSourceLazily() {
+            // When
+            List<DateTimePeriod> result =
+                    DateTimePeriodStreams.gaps(endless()).limit(2).toList();
+
+            // Then
+            assertThat(result).containsExactly(hours(1, 1), hours(3, 3));
+        }
+
+        @Test
+        void shouldThrowException_whenSourceIsNotSorted() {
+            // Given
+            Stream<DateTimePeriod> periods = Stream.of(days(10, 12), days(1, 5));
+
+            // Assertions
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> DateTimePeriodStreams.gaps(periods).toList());
+        }
+    }
+}
@@ -3,10 +3,19 @@ package dev.nextgin.commons.datetimeperiod;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -246,6 +255,32 @@ class DateTimePeriodTest {
             // Then
             assertThat(result).isEqualTo(-1);
         }
+
+        @Test
+        void shouldCompareEnds_whenStartsAreEqual() {
+            // Given
+            DateTimePeriod a = DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 15));
+            DateTimePeriod b = DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 20));
+
+            // Assertions
+            assertThat(a.compareTo(b)).isEqualTo(-1);
+            assertThat(b.compareTo(a)).isEqualTo(1);
+        }
+
+        @Test
+        void shouldComparePrecisions_whenStartsAndEndsAreEqual() {
+            // Given
+            DateTimePeriod a = DateTimePeriod.make(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 15));
+            DateTimePeriod b = DateTimePeriod.make(
+                    LocalDate.of(2024, 1, 10).atStartOfDay(),
+                    LocalDate.of(2024, 1, 15).atStartOfDay(),
+                    Precision.HOUR);
+
+            // Assertions
+            assertThat(a.compareTo(b)).isEqualTo(-1);
+            assertThat(b.compareTo(a)).isEqualTo(1);
+            assertThat(a).isNotEqualTo(b);
+        }
     }
 
     @Nested
@@ -657,4 +692,256 @@ class DateTimePeriodTest {
                     .isEqualTo(DateTimePeriod.make(LocalDate.of(2024, 1, 16), LocalDate.of(2024, 1, 31)));
         }
     }
+
+    @Nested
+    class Allocation {
+
+        private final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        @Test
+        void predicatesShouldNotAllocate() {
+            Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+
+            // Given
+            DateTimePeriod[] periods = new DateTimePeriod[64];
+            for (int i = 0; i < periods.length; i++) {
+                LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0).plusHours(i * 3L);
+                periods[i] = DateTimePeriod.make(start, start.plusHours(i % 5), Precision.HOUR);
+            }
+            LocalDateTime time = LocalDateTime.of(2024, 1, 2, 10, 30);
+            long threadId = Thread.currentThread().getId();
+
+            // When
+            int matches = this.evaluate(periods, time);
+            long before = threads.getThreadAllocatedBytes(threadId);
+            matches += this.evaluate(periods, time);
+            long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+            // Then
+            assertThat(matches).isPositive();
+            assertThat(allocated).isLessThan(1024);
+        }
+
+        private int evaluate(DateTimePeriod[] periods, LocalDateTime time) {
+            int matches = 0;
+            for (int round = 0; round < 100; round++) {
+                for (DateTimePeriod a : periods) {
+                    for (DateTimePeriod b : periods) {
+                        matches += a.overlapsWith(b) ? 1 : 0;
+                        matches += a.touchesWith(b) ? 1 : 0;
+                        matches += a.contains(b) ? 1 : 0;
+                        matches += a.equals(b) ? 1 : 0;
+                        matches += a.compareTo(b);
+                    }
+                    matches += a.contains(time) ? 1 : 0;
+                    matches += a.hashCode() & 1;
+                }
+            }
+            return matches;
+        }
+    }
+
+    @Nested
+    class Serialization {
+
+        @Test
+        void shouldRoundTripThroughJavaSerialization() throws Exception {
+            // Given
+            DateTimePeriod period = DateTimePeriod.make(
+                    LocalDateTime.of(2024, 3, 15, 9, 30), LocalDateTime.of(2024, 3, 15, 17, 45), Precision.MINUTE);
+
+            // When
+            DateTimePeriod copy = roundTrip(period);
+
+            // Then
+            assertThat(copy).isEqualTo(period).hasSameHashCodeAs(period);
+            assertThat(copy.duration()).isEqualTo(Duration.ofMinutes(495));
+            assertThat(copy.touchesWith(DateTimePeriod.make(
+                            LocalDateTime.of(2024, 3, 15, 17, 46),
+                            LocalDateTime.of(2024, 3, 15, 18, 0),
+                            Precision.MINUTE)))
+                    .isTrue();
+        }
+
+        @Test
+        void shouldRoundTripEveryPrecision() throws Exception {
+            for (Precision precision : Precision.values()) {
+                // Given
+                DateTimePeriod period = DateTimePeriod.make(
+                        LocalDateTime.of(1969, 7, 20, 20, 17, 40),
+                        LocalDateTime.of(2024, 2, 29, 23, 59, 59),
+                        precision);
+
+                // Assertions
+                assertThat(roundTrip(period)).isEqualTo(period);
+            }
+        }
+
+        @Test
+        void shouldReadPeriodsSerializedByEarlierReleases() throws Exception {
+            // Given
+            byte[] serialized = Base64.getDecoder()
+                    .decode("rO0ABXNyADFkZXYubmV4dGdpbi5jb21tb25zLmRhdGV0aW1lcGVyaW9kLkRhdGVUaW1lUGVyaW9kgupb4mKx"
+                            + "xQMCAANMAANlbmR0ABlMamF2YS90aW1lL0xvY2FsRGF0ZVRpbWU7TAAJcHJlY2lzaW9udAAuTGRldi9uZXh0Z2lu"
+                            + "L2NvbW1vbnMvZGF0ZXRpbWVwZXJpb2QvUHJlY2lzaW9uO0wABXN0YXJ0cQB+AAF4cHNyAA1qYXZhLnRpbWUuU2Vy"
+                            + "lV2EuhsiSLIMAAB4cHcJBQAAB+gDEAnweH5yACxkZXYubmV4dGdpbi5jb21tb25zLmRhdGV0aW1lcGVyaW9kLlBy"
+                            + "ZWNpc2lvbgAAAAAAAAAAEgAAeHIADmphdmEubGFuZy5FbnVtAAAAAAAAAAASAAB4cHQABk1JTlVURXNxAH4ABHcJ"
+                            + "BQAAB+gDDw7heA==");
+
+            // When
+            DateTimePeriod period;
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+                period = (DateTimePeriod) in.readObject();
+            }
+
+            // Then
+            assertThat(period)
+                    .isEqualTo(DateTimePeriod.make(
+                            LocalDateTime.of(2024, 3, 15, 14, 30),
+                            LocalDateTime.of(2024, 3, 16, 9, 15),
+                            Precision.MINUTE));
+            assertThat(period.contains(LocalDateTime.of(2024, 3, 16, 9, 15))).isTrue();
+            assertThat(roundTrip(period)).isEqualTo(period);
+        }
+
+        private static DateTimePeriod roundTrip(DateTimePeriod period) throws Exception {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(period);
+            }
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return (DateTimePeriod) in.readObject();
+            }
+        }
+    }
+
+    @Nested
+    class Slice {
+
+        @Test
+        void shouldSplitIntoAlignedBuckets_whenClippingFirstAndLast() {
+            // Given
+            DateTimePeriod period = DateTimePeriod.make(
+                    LocalDateTime.of(2024, 3, 15, 14, 30), LocalDateTime.of(2024, 3, 15, 16, 10), Precision.MINUTE);
+
+            // When
+            List<DateTimePeriod> slices = period.slice(Precision.HOUR).toList();
+
+            // Then
+            assertThat(slices)
+                    .containsExactly(
+                            DateTimePeriod.make(
+                                    LocalDateTime.of(2024, 3, 15, 14, 30),
+                                    LocalDateTime.of(2024, 3, 15, 14, 59),
+                                    Precision.MINUTE),
+                            DateTimePeriod.make(
+                                    LocalDateTime.of(2024, 3, 15, 15, 0),
+                                    LocalDateTime.of(2024, 3, 15, 15, 59),
+                                    Precision.MINUTE),
+                            DateTimePeriod.make(
+                                    LocalDateTime.of(2024, 3, 15, 16, 0),
+                                    LocalDateTime.of(2024, 3, 15, 16, 10),
+                                    Precision.MINUTE));
+            assertThat(period.sliceCount(Precision.HOUR)).isEqualTo(3);
+        }
+
+        @Test
+        void shouldFollowCalendarMonths() {
+            // Given
+            DateTimePeriod period = DateTimePeriod.make(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 3, 5));
+
+            // Assertions
+            assertThat(period.slice(Precision.MONTH))
+                    .containsExactly(
+                            DateTimePeriod.make(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 1, 31)),
+                            DateTimePeriod.make(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)),
+                            DateTimePeriod.make(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 5)));
+            assertThat(period.slice(Precision.YEAR)).containsExactly(period);
+            assertThat(period.slice(Precision.DAY)).hasSize(46);
+        }
+
+        @Test
+        void shouldCoverPeriodWithTouchingSlices_forEveryBucket() {
+            // Given
+            DateTimePeriod period = DateTimePeriod.make(
+                    LocalDateTime.of(1969, 12, 30, 22, 17, 40),
+                    LocalDateTime.of(1970, 1, 2, 1, 2, 3),
+                    Precision.SECOND);
+
+            for (Precision bucket : Precision.values()) {
+                // When
+                List<DateTimePeriod> slices = period.slice(bucket).toList();
+
+                // Then
+                assertThat(slices).hasSize((int) period.sliceCount(bucket)).isSorted();
+                assertThat(slices.get(0).start()).isEqualTo(period.start());
+                assertThat(slices.get(slices.size() - 1).end()).isEqualTo(period.end());
+                for (int i = 1; i < slices.size(); i++) {
+                    assertThat(slices.get(i - 1).touchesWith(slices.get(i))).isTrue();
+                }
+                assertThat(slices.stream().map(DateTimePeriod::duration).reduce(Duration.ZERO, Duration::plus))
+                        .isEqualTo(period.duration().minusSeconds(slices.size() - 1));
+            }
+        }
+
+        @Test
+        void shouldCount_withoutCreatingSlices() {
+            // Given
+            DateTimePeriod century = DateTimePeriod.make(
+                    LocalDateTime.of(1950, 1, 1, 0, 0), LocalDateTime.of(2049, 12, 31, 23, 59, 59), Precision.SECOND);
+
+            // Assertions
+            assertThat(century.sliceCount(Precision.SECOND)).isEqualTo(3_155_760_000L);
+            assertThat(century.slice(Precision.SECOND).count()).isEqualTo(3_155_760_000L);
+            assertThat(century.slice(Precision.SECOND).spliterator().getExactSizeIfKnown())
+                    .isEqualTo(3_155_760_000L);
+        }
+
+        @Test
+        void shouldMatchSequentialSlices_whenRunInParallel() {
+            // Given
+            DateTimePeriod period = DateTimePeriod.make(
+                    LocalDateTime.of(2024, 1, 1, 0, 30), LocalDateTime.of(2024, 3, 31, 12, 0), Precision.MINUTE);
+
+            // Assertions
+            assertThat(period.slice(Precision.HOUR).parallel().toList())
+                    .isEqualTo(period.slice(Precision.HOUR).toList());
+            assertThat(period.slice(Precision.HOUR).iterator().next().start()).isEqualTo(period.start());
+        }
+
+        @Test
+        void shouldEndLastSliceWithPeriod_whenPeriodEndsAtMax() {
+            // Given
+            DateTimePeriod period =
+                    DateTimePeriod.make(LocalDateTime.MAX.minusDays(3), LocalDateTime.MAX, Precision.DAY);
+            DateTimePeriod minutes =
+                    DateTimePeriod.make(LocalDateTime.MAX.minusMinutes(90), LocalDateTime.MAX, Precision.MINUTE);
+
+            // When
+            List<DateTimePeriod> days = period.slice(Precision.DAY).toList();
+            List<DateTimePeriod> hours = minutes.slice(Precision.HOUR).toList();
+            List<DateTimePeriod> advanced = new ArrayList<>();
+            minutes.slice(Precision.HOUR).spliterator().tryAdvance(advanced::add);
+
+            // Then
+            assertThat(days)
+                    .hasSize(4)
+                    .last()
+                    .isEqualTo(DateTimePeriod.make(LocalDateTime.MAX, LocalDateTime.MAX, Precision.DAY));
+            assertThat(hours).hasSize(2);
+            assertThat(hours.get(1).end()).isEqualTo(minutes.end());
+            assertThat(advanced).containsExactly(hours.get(0));
+            assertThat(minutes.slice(Precision.YEAR).toList()).containsExactly(minutes);
+        }
+
+        @Test
+        void shouldThrowException_whenBucketIsFinerThanPrecision() {
+            DateTimePeriod period = DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2));
+
+            assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(() -> period.slice(Precision.HOUR));
+            assertThatExceptionOfType(DateTimePeriodException.class)
+                    .isThrownBy(() -> period.sliceCount(Precision.MINUTE));
+        }
+    }
 }
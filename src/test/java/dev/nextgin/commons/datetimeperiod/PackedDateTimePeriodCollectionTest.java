@@ -0,0 +1,138 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.ORIGIN;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PackedDateTimePeriodCollectionTest {
+
+    private final DateTimePeriodCollection periods = DateTimePeriodCollection.of(
+            DateTimePeriod.make(LocalDate.of(2024, 2, 8), LocalDate.of(2024, 2, 13)),
+            days(30, 31),
+            DateTimePeriod.make(LocalDate.of(2024, 2, 12), LocalDate.of(2024, 2, 14)),
+            DateTimePeriod.make(LocalDate.of(2024, 1, 30), LocalDate.of(2024, 2, 2)),
+            DateTimePeriod.make(LocalDate.of(2024, 2, 3), LocalDate.of(2024, 2, 5)),
+            DateTimePeriod.make(LocalDate.of(2024, 2, 20), LocalDate.of(2024, 2, 29)));
+
+    private final PackedDateTimePeriodCollection packed = PackedDateTimePeriodCollection.of(Precision.DAY, periods);
+
+    @Test
+    void shouldMaterialisePeriodsOnIteration() {
+        assertThat(packed).hasSize(6).containsExactlyElementsOf(periods);
+        assertThat(packed.get(1)).isEqualTo(periods.get(1));
+        assertThat(packed.start(0)).isEqualTo(Precision.DAY.toEpochUnits(LocalDateTime.of(2024, 2, 8, 0, 0)));
+        assertThat(packed.contains(periods.get(2))).isTrue();
+        assertThat(packed.toDateTimePeriodCollection()).containsExactlyElementsOf(periods);
+    }
+
+    @Test
+    void shouldThrowException_whenPrecisionDoesNotMatch() {
+        DateTimePeriod period = DateTimePeriod.make(ORIGIN, day(2));
+
+        assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(() -> packed.add(period));
+    }
+
+    @Test
+    void shouldRemoveThroughIterator() {
+        // Given
+        PackedDateTimePeriodCollection collection = PackedDateTimePeriodCollection.of(Precision.DAY, periods);
+
+        // When
+        Iterator<DateTimePeriod> iterator = collection.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        // Then
+        assertThat(collection).hasSize(5).doesNotContain(periods.get(1)).contains(periods.get(0), periods.get(2));
+    }
+
+    @Test
+    void boundaries() {
+        assertThat(packed.boundaries()).isEqualTo(periods.boundaries());
+        assertThat(PackedDateTimePeriodCollection.empty(Precision.DAY).boundaries())
+                .isNull();
+    }
+
+    @Test
+    void union() {
+        assertThat(packed.union()).containsExactlyElementsOf(periods.union());
+        assertThat(PackedDateTimePeriodCollection.empty(Precision.DAY).union()).isEmpty();
+    }
+
+    @Test
+    void gaps() {
+        assertThat(packed.gaps()).containsExactlyElementsOf(periods.gaps());
+        assertThat(packed.gaps(Duration.ofDays(4))).containsExactlyElementsOf(periods.gaps(Duration.ofDays(4)));
+    }
+
+    @Test
+    void intersect() {
+        DateTimePeriod intersection = DateTimePeriod.make(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 12));
+
+        assertThat(packed.intersect(intersection)).containsExactlyElementsOf(periods.intersect(intersection));
+    }
+
+    @Nested
+    class Subtract {
+
+        @Test
+        void shouldSubtractCollectionFromACollection() {
+            // Given
+            DateTimePeriodCollection other = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 2, 25), LocalDate.of(2024, 3, 10)),
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 1)),
+                    DateTimePeriod.make(LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 12)));
+
+            // When
+            PackedDateTimePeriodCollection result =
+                    packed.subtract(PackedDateTimePeriodCollection.of(Precision.DAY, other));
+
+            // Then
+            assertThat(result).containsExactlyElementsOf(periods.subtract(other));
+        }
+
+        @Test
+        void shouldReturnSameCollection_whenCollectionIsEmpty() {
+            assertThat(packed.subtract(PackedDateTimePeriodCollection.empty(Precision.DAY)))
+                    .containsExactlyElementsOf(periods);
+        }
+    }
+
+    @Nested
+    class OverlapAll {
+
+        @Test
+        void shouldDetermineOverlapsForMultipleCollections() {
+            // Given
+            DateTimePeriodCollection a = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 10)),
+                    DateTimePeriod.make(LocalDate.of(2024, 2, 22), LocalDate.of(2024, 3, 31)));
+            DateTimePeriodCollection b = DateTimePeriodCollection.of(
+                    DateTimePeriod.make(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 25)));
+
+            // When
+            PackedDateTimePeriodCollection result = packed.overlapAll(
+                    PackedDateTimePeriodCollection.of(Precision.DAY, a),
+                    PackedDateTimePeriodCollection.of(Precision.DAY, b));
+
+            // Then
+            assertThat(result).containsExactlyElementsOf(periods.overlapAll(a, b));
+        }
+
+        @Test
+        void shouldReturnEmptyCollection_whenACollectionIsEmpty() {
+            assertThat(packed.overlapAll(PackedDateTimePeriodCollection.empty(Precision.DAY)))
+                    .isEmpty();
+        }
+    }
+}
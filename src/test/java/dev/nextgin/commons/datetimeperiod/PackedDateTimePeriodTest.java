@@ -0,0 +1,134 @@
+package dev.nextgin.commons.datetimeperiod;
+
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.day;
+import static dev.nextgin.commons.datetimeperiod.DateTimePeriodFixtures.days;
+import static dev.nextgin.commons.datetimeperiod.PackedDateTimePeriod.of;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PackedDateTimePeriodTest {
+
+    @Test
+    void shouldConvertToAndFromDateTimePeriod() {
+        // Given
+        DateTimePeriod period = DateTimePeriod.make(
+                LocalDateTime.of(2024, 3, 15, 14, 30), LocalDateTime.of(2024, 3, 16, 9, 15), Precision.MINUTE);
+
+        // When
+        PackedDateTimePeriod packed = PackedDateTimePeriod.of(period);
+
+        // Then
+        assertThat(packed.start()).isEqualTo(Precision.MINUTE.toEpochUnits(period.start()));
+        assertThat(packed.end() - packed.start()).isEqualTo(18 * 60 + 45);
+        assertThat(packed.toDateTimePeriod()).isEqualTo(period);
+        assertThat(packed).hasToString(period.toString());
+    }
+
+    @Test
+    void shouldThrowException_whenStartIsAfterEnd() {
+        assertThatExceptionOfType(DateTimePeriodException.class)
+                .isThrownBy(() -> PackedDateTimePeriod.of(10, 5, Precision.DAY));
+    }
+
+    @Test
+    void shouldThrowException_whenPrecisionDoesNotMatch() {
+        PackedDateTimePeriod a = PackedDateTimePeriod.of(1, 5, Precision.DAY);
+        PackedDateTimePeriod b = PackedDateTimePeriod.of(1, 5, Precision.HOUR);
+
+        assertThatExceptionOfType(DateTimePeriodException.class).isThrownBy(() -> a.overlapsWith(b));
+    }
+
+    @Test
+    void shouldDetermineOverlapAndTouch() {
+        assertThat(of(days(1, 10)).overlapsWith(of(days(10, 20)))).isTrue();
+        assertThat(of(days(1, 10)).overlapsWith(of(days(11, 20)))).isFalse();
+        assertThat(of(days(1, 10)).touchesWith(of(days(11, 20)))).isTrue();
+        assertThat(of(days(11, 20)).touchesWith(of(days(1, 10)))).isTrue();
+        assertThat(of(days(1, 10)).touchesWith(of(days(12, 20)))).isFalse();
+        assertThat(of(days(1, 10)).touchesWith(of(days(5, 20)))).isFalse();
+    }
+
+    @Test
+    void shouldDetermineGap() {
+        assertThat(of(days(1, 5)).gap(of(days(10, 31)))).isEqualTo(of(days(6, 9)));
+        assertThat(of(days(10, 31)).gap(of(days(1, 5)))).isEqualTo(of(days(6, 9)));
+        assertThat(of(days(1, 5)).gap(of(days(6, 31)))).isNull();
+        assertThat(of(days(1, 5)).gap(of(days(3, 31)))).isNull();
+    }
+
+    @Test
+    void shouldDetermineOverlap() {
+        assertThat(of(days(5, 20)).overlap(of(days(1, 15)))).isEqualTo(of(days(5, 15)));
+        assertThat(of(days(1, 5)).overlap(of(days(6, 15)))).isNull();
+    }
+
+    @Nested
+    class Subtract {
+
+        @Test
+        void shouldSplitAroundTheSubtractedPeriod() {
+            assertThat(of(days(1, 31)).subtract(of(days(15, 20)))).containsExactly(of(days(1, 14)), of(days(21, 31)));
+        }
+
+        @Test
+        void shouldKeepTheRemainingSide() {
+            assertThat(of(days(1, 31)).subtract(of(days(1, 20)))).containsExactly(of(days(21, 31)));
+            assertThat(of(days(1, 31)).subtract(of(days(20, 31)))).containsExactly(of(days(1, 19)));
+        }
+
+        @Test
+        void shouldReturnThisPeriod_whenPeriodsDoNotOverlap() {
+            assertThat(of(days(1, 10)).subtract(of(days(11, 31)))).containsExactly(of(days(1, 10)));
+        }
+
+        @Test
+        void shouldReturnEmptyList_whenPeriodIsCovered() {
+            assertThat(of(days(5, 10)).subtract(of(days(1, 31)))).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldDetermineContainment() {
+        PackedDateTimePeriod period = of(days(1, 30));
+
+        assertThat(period.contains(day(30).plusHours(23).plusMinutes(59))).isTrue();
+        assertThat(period.contains(day(31))).isFalse();
+        assertThat(period.contains(of(days(1, 15)))).isTrue();
+        assertThat(period.contains(of(days(15, 31)))).isFalse();
+    }
+
+    @Test
+    void shouldDetermineContainment_whenPrecisionDiffers() {
+        PackedDateTimePeriod period = of(days(1, 30));
+        PackedDateTimePeriod inside = PackedDateTimePeriod.make(
+                day(10).plusHours(8), day(12).plusHours(17).plusMinutes(30), Precision.MINUTE);
+        PackedDateTimePeriod outside = PackedDateTimePeriod.make(
+                LocalDateTime.of(2023, 12, 31, 8, 0), day(2).plusHours(17).plusMinutes(30), Precision.MINUTE);
+
+        assertThat(period.contains(inside)).isEqualTo(period.toDateTimePeriod().contains(inside.toDateTimePeriod()));
+        assertThat(period.contains(inside)).isTrue();
+        assertThat(period.contains(outside)).isFalse();
+        assertThat(period.contains(PackedDateTimePeriod.of(period.start(), period.end(), Precision.MINUTE)))
+                .isFalse();
+    }
+
+    @Test
+    void shouldOrderByStartThenEnd() {
+        assertThat(of(days(1, 10)).compareTo(of(days(2, 3)))).isNegative();
+        assertThat(of(days(1, 10)).compareTo(of(days(1, 5)))).isPositive();
+        assertThat(of(days(1, 10)).compareTo(of(days(1, 10)))).isZero();
+    }
+
+    @Test
+    void shouldOrderByTime_whenPrecisionDiffers() {
+        PackedDateTimePeriod hours = PackedDateTimePeriod.make(day(5), day(5).plusHours(5), Precision.HOUR);
+
+        assertThat(of(days(20, 25)).compareTo(hours)).isPositive();
+        assertThat(hours.compareTo(of(days(20, 25)))).isNegative();
+        assertThat(of(days(5, 5)).compareTo(hours)).isNegative();
+    }
+}
@@ -1,8 +1,11 @@
 package dev.nextgin.commons.datetimeperiod;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import org.junit.jupiter.api.Test;
 
 class PrecisionTest {
@@ -48,4 +51,92 @@ class PrecisionTest {
         LocalDateTime result = Precision.SECOND.round(dateTime);
         assertThat(result).isEqualTo(dateTime);
     }
+
+    @Test
+    void toEpochUnits() {
+        LocalDateTime dateTime = LocalDateTime.of(1970, 3, 2, 14, 30, 45);
+        assertThat(Precision.YEAR.toEpochUnits(dateTime)).isEqualTo(0);
+        assertThat(Precision.MONTH.toEpochUnits(dateTime)).isEqualTo(2);
+        assertThat(Precision.DAY.toEpochUnits(dateTime)).isEqualTo(60);
+        assertThat(Precision.HOUR.toEpochUnits(dateTime)).isEqualTo(60 * 24 + 14);
+        assertThat(Precision.MINUTE.toEpochUnits(dateTime)).isEqualTo((60 * 24 + 14) * 60 + 30);
+        assertThat(Precision.SECOND.toEpochUnits(dateTime)).isEqualTo(((60 * 24 + 14) * 60 + 30) * 60 + 45);
+    }
+
+    @Test
+    void fromEpochUnits_shouldBeTheInverseOfToEpochUnits() {
+        LocalDateTime dateTime = LocalDateTime.of(1821, 11, 28, 7, 5, 59);
+        for (Precision precision : Precision.values()) {
+            long units = precision.toEpochUnits(dateTime);
+            assertThat(units).isNegative();
+            assertThat(precision.fromEpochUnits(units)).isEqualTo(precision.round(dateTime));
+            assertThat(precision.fromEpochUnits(units + 1))
+                    .isEqualTo(precision.round(dateTime).plus(precision.interval()));
+        }
+    }
+
+    @Test
+    void fromEpochUnits_shouldThrowDateTimeException_whenOutOfRange() {
+        for (Precision precision : Precision.values()) {
+            long last = precision.toEpochUnits(LocalDateTime.MAX);
+            long first = precision.toEpochUnits(LocalDateTime.MIN);
+
+            assertThat(precision.fromEpochUnits(last)).isEqualTo(precision.round(LocalDateTime.MAX));
+            assertThatExceptionOfType(DateTimeException.class).isThrownBy(() -> precision.fromEpochUnits(last + 1));
+            assertThatExceptionOfType(DateTimeException.class).isThrownBy(() -> precision.fromEpochUnits(first - 1));
+            assertThatExceptionOfType(DateTimeException.class)
+                    .isThrownBy(() -> precision.fromEpochUnits(Long.MAX_VALUE / 2));
+            assertThatExceptionOfType(DateTimeException.class)
+                    .isThrownBy(() -> precision.fromEpochUnits(Long.MIN_VALUE / 2));
+        }
+    }
+
+    @Test
+    void round_shouldReturnSameInstance_whenAlreadyAligned() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 9, 1, 0, 0);
+        for (Precision precision : Precision.values()) {
+            LocalDateTime aligned = precision.round(dateTime.withMonth(precision == Precision.YEAR ? 1 : 9));
+            assertThat(precision.round(aligned)).isSameAs(aligned);
+        }
+    }
+
+    @Test
+    void round_shouldTruncateNanos() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 9, 11, 18, 0, 0, 500);
+        assertThat(Precision.SECOND.round(dateTime)).isEqualTo(LocalDateTime.of(2024, 9, 11, 18, 0, 0));
+        assertThat(Precision.HOUR.round(dateTime)).isEqualTo(LocalDateTime.of(2024, 9, 11, 18, 0, 0));
+    }
+
+    @Test
+    void round_shouldRoundArraysInPlace() {
+        LocalDateTime[] values = {LocalDateTime.of(2024, 9, 11, 18, 30, 11), LocalDateTime.of(2024, 2, 29, 23, 59)};
+        LocalDateTime[] result = Precision.DAY.round(values);
+        assertThat(result)
+                .isSameAs(values)
+                .containsExactly(LocalDateTime.of(2024, 9, 11, 0, 0), LocalDateTime.of(2024, 2, 29, 0, 0));
+    }
+
+    @Test
+    void round_shouldRoundEpochSecondsInPlace() {
+        LocalDateTime[] dateTimes = {
+            LocalDateTime.of(2024, 9, 11, 18, 30, 11),
+            LocalDateTime.of(2024, 9, 30, 23, 59, 59),
+            LocalDateTime.of(2024, 10, 1, 0, 0, 0),
+            LocalDateTime.of(1969, 12, 31, 23, 59, 59)
+        };
+        for (Precision precision : Precision.values()) {
+            long[] epochSeconds = new long[dateTimes.length];
+            for (int i = 0; i < dateTimes.length; i++) {
+                epochSeconds[i] = dateTimes[i].toEpochSecond(ZoneOffset.UTC);
+            }
+
+            long[] result = precision.round(epochSeconds);
+
+            assertThat(result).isSameAs(epochSeconds);
+            for (int i = 0; i < dateTimes.length; i++) {
+                assertThat(LocalDateTime.ofEpochSecond(result[i], 0, ZoneOffset.UTC))
+                        .isEqualTo(precision.round(dateTimes[i]));
+            }
+        }
+    }
 }